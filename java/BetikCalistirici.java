@@ -0,0 +1,138 @@
+package cli;
+
+import ortak.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// ===============================
+// Betik Çalıştırıcı (etkileşimsiz mod)
+// ===============================
+// Satır başına bir komut okur ve menü basmadan çalıştırır:
+//   ADD n        tohumlu üreticiyle n nesne ekler (benzersiz ID ile)
+//   ANALYZE id   nesneyi analiz eder; çöküş sayılır, betik durmaz
+//   COOL id      kritik nesneyi soğutur
+//   LIST         tüm envanteri çıktıya yazar
+// Boş satırlar ve # ile başlayan satırlar atlanır. Hatalı satır sayılıp
+// stderr'e yazılır, çalışma sürer. Sonunda komut başına sayılar ve hız raporlanır.
+class BetikCalistirici {
+
+    private final Envanter envanter;
+    private final PrintWriter cikti;
+    // LIST çıktısı için yeniden kullanılan tamponlar
+    private static final String SATIR_SONU = System.lineSeparator();
+    private static final int LISTE_PARCASI = 64 * 1024;
+    private final StringBuilder satirlar = new StringBuilder(LISTE_PARCASI + 256);
+    private char[] karakterler = new char[LISTE_PARCASI + 256];
+
+    private long satir;
+    private long eklenen;
+    private long analiz;
+    private long sogutma;
+    private long listeleme;
+    private long cokus;
+    private long hata;
+
+    BetikCalistirici(Envanter envanter, PrintWriter cikti) {
+        this.envanter = envanter;
+        this.cikti = cikti;
+    }
+
+    void calistir(Reader kaynak) throws IOException {
+        long baslangic = System.nanoTime();
+        BufferedReader okuyucu = new BufferedReader(kaynak, 1 << 16);
+        String s;
+        while ((s = okuyucu.readLine()) != null) {
+            satir++;
+            try {
+                komut(s.trim());
+                Main.zincirYay();
+            } catch (RuntimeException e) {
+                hata++;
+                System.err.println("Satır " + satir + ": " + e.getMessage());
+            }
+        }
+        long sure = System.nanoTime() - baslangic;
+        cikti.flush();
+        rapor(sure);
+    }
+
+    private void komut(String s) {
+        if (s.isEmpty() || s.charAt(0) == '#') return;
+        int bosluk = s.indexOf(' ');
+        String ad = (bosluk < 0 ? s : s.substring(0, bosluk)).toUpperCase(Locale.ROOT);
+        String arguman = bosluk < 0 ? "" : s.substring(bosluk + 1).trim();
+
+        switch (ad) {
+            case "ADD" -> ekle(arguman.isEmpty() ? 1 : Integer.parseInt(arguman));
+            case "ANALYZE" -> analizEt(arguman);
+            case "COOL" -> sogut(arguman);
+            case "LIST" -> listele();
+            default -> throw new IllegalArgumentException("Bilinmeyen komut: " + ad);
+        }
+    }
+
+    private void ekle(int adet) {
+        if (adet < 0) throw new IllegalArgumentException("Geçersiz adet: " + adet);
+        // Aynı tohumla aynı betik aynı nesneleri üretir
+        List<KuantumNesnesi> reddedilen = Main.topluEkle(Arrays.asList(Main.uretici().nesneler(adet)));
+        eklenen += adet - reddedilen.size();
+        if (!reddedilen.isEmpty()) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + reddedilen.get(0).getId());
+        }
+    }
+
+    private void analizEt(String id) {
+        KuantumNesnesi n = bulunmali(id);
+        if (envanter.sahibinde(n, Metrikler.sistem()::analiz) == AnalizSonucu.COKTU) cokus++;
+        analiz++;
+    }
+
+    private void sogut(String id) {
+        KuantumNesnesi n = bulunmali(id);
+        if (!envanter.sahibinde(n, Metrikler.sistem()::sogut)) {
+            throw new IllegalArgumentException("Bu nesne soğutulamaz: " + id);
+        }
+        sogutma++;
+    }
+
+    // Satırlar tek bir tamponda biriktirilip parça parça yazılır; nesne başına String oluşmaz
+    private void listele() {
+        satirlar.setLength(0);
+        for (KuantumNesnesi n : envanter) {
+            n.durumYaz(satirlar);
+            satirlar.append(SATIR_SONU);
+            if (satirlar.length() >= LISTE_PARCASI) satirlariYaz();
+        }
+        satirlariYaz();
+        listeleme++;
+    }
+
+    private void satirlariYaz() {
+        int uzunluk = satirlar.length();
+        if (karakterler.length < uzunluk) karakterler = new char[uzunluk];
+        satirlar.getChars(0, uzunluk, karakterler, 0);
+        cikti.write(karakterler, 0, uzunluk);
+        satirlar.setLength(0);
+    }
+
+    private KuantumNesnesi bulunmali(String id) {
+        KuantumNesnesi n = Main.bul(id);
+        if (n == null) throw new IllegalArgumentException("Nesne bulunamadı: " + id);
+        return n;
+    }
+
+    private void rapor(long sureNanos) {
+        long islem = eklenen + analiz + sogutma + listeleme;
+        double saniye = sureNanos / 1e9;
+        System.err.printf("Betik: %d satır | ADD %d | ANALYZE %d (çöken %d) | COOL %d | LIST %d | hata %d%n",
+                satir, eklenen, analiz, cokus, sogutma, listeleme, hata);
+        System.err.printf("Süre: %.1f ms | %.0f işlem/s | envanter: %d nesne | düşen log: %d%n",
+                sureNanos / 1e6, saniye > 0 ? islem / saniye : 0, envanter.boyut(), LogHatti.sistem().dusenSayisi());
+    }
+}
@@ -0,0 +1,93 @@
+package cli;
+
+import ortak.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// ===============================
+// Eş Zamanlı Envanter
+// ===============================
+// Birden çok iş parçacığı aynı anda ekleyip arayabilir. Stabilite güncellemeleri
+// KuantumNesnesi içinde CAS ile yapıldığından nesneler ayrıca kilitlenmez.
+// Listeleme sırası ekleme sırası değildir.
+class EsZamanliEnvanter implements Envanter {
+
+    // Anahtar -> nesne; String hash ve equals yerine long karşılaştırması
+    private final ConcurrentHashMap<Long, KuantumNesnesi> idIndeksi = new ConcurrentHashMap<>();
+    // Tip kodu -> nesne sayısı
+    private final AtomicIntegerArray tipSayilari = new AtomicIntegerArray(TipKayitDefteri.kodAraligi());
+    private final AtomicInteger kritikSayisi = new AtomicInteger();
+    private final RiskIndeksi riskIndeksi = new RiskIndeksi();
+    // Nesnelere atanan tek dinleyici: önce risk indeksi, sonra eklenen dinleyiciler
+    private final DinleyiciListesi yayici = new DinleyiciListesi(riskIndeksi);
+
+    @Override
+    public void ekle(KuantumNesnesi nesne) {
+        if (idIndeksi.putIfAbsent(nesne.getAnahtar(), nesne) != null) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + nesne.getId());
+        }
+        tipSayilari.incrementAndGet(nesne.getTipKodu());
+        if (nesne instanceof IKritik) kritikSayisi.incrementAndGet();
+        riskIndeksi.ekle(nesne);
+        nesne.setDinleyici(yayici);
+        yayici.eklendi(nesne);
+    }
+
+    @Override
+    public KuantumNesnesi cikar(long anahtar) {
+        KuantumNesnesi nesne = idIndeksi.remove(anahtar);
+        if (nesne == null) return null;
+        tipSayilari.decrementAndGet(nesne.getTipKodu());
+        if (nesne instanceof IKritik) kritikSayisi.decrementAndGet();
+        nesne.setDinleyici(null);
+        riskIndeksi.cikar(nesne);
+        yayici.cikarildi(nesne);
+        return nesne;
+    }
+
+    @Override
+    public KuantumNesnesi bul(long anahtar) {
+        return idIndeksi.get(anahtar);
+    }
+
+    @Override
+    public boolean iceriyor(long anahtar) {
+        return idIndeksi.containsKey(anahtar);
+    }
+
+    @Override
+    public int tipSayisi(int tipKodu) {
+        if (!TipKayitDefteri.gecerli(tipKodu)) {
+            throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        }
+        return tipSayilari.get(tipKodu);
+    }
+
+    @Override
+    public int kritikSayisi() {
+        return kritikSayisi.get();
+    }
+
+    @Override
+    public RiskIndeksi riskIndeksi() {
+        return riskIndeksi;
+    }
+
+    @Override
+    public void dinleyiciEkle(StabiliteDinleyicisi dinleyici) {
+        yayici.ekle(dinleyici);
+    }
+
+    @Override
+    public int boyut() {
+        return idIndeksi.size();
+    }
+
+    @Override
+    public Iterator<KuantumNesnesi> iterator() {
+        return Collections.unmodifiableCollection(idIndeksi.values()).iterator();
+    }
+}
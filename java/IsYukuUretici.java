@@ -0,0 +1,209 @@
+package cli;
+
+import ortak.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// ===============================
+// İş Yükü Üretici (tohumlu, paralel)
+// ===============================
+// Aynı tohum ve ayarlarla her çalıştırmada aynı nesneleri üretir. Üretim 64K'lık
+// parçalar halinde paraleldir; her parça kendi SplittableRandom'unu kullanır ve
+// parça üreteçleri kök üreteçten sırayla bölündüğü için sonuç iş parçacığı
+// sayısından bağımsızdır. ID'ler idBaslangici'ndan ardışık verilir, benzersizdir.
+// Ardışık uret çağrıları akışı sürdürür (aynı veriyi tekrar üretmez).
+// Üretilen nesneler çökmemiştir: stabilite her zaman 0'ın üstündedir.
+class IsYukuUretici {
+
+    private static final int PARCA_BOYUTU = 1 << 16;
+
+    // Üretilen satırlar; anahtar = idBaslangici + satır
+    static class Veri {
+        final long idBaslangici;
+        final byte[] tip;
+        final double[] stabilite;
+        final byte[] tehlike;
+
+        Veri(long idBaslangici, int adet) {
+            this.idBaslangici = idBaslangici;
+            tip = new byte[adet];
+            stabilite = new double[adet];
+            tehlike = new byte[adet];
+        }
+
+        int boyut() {
+            return tip.length;
+        }
+
+        long anahtar(int i) {
+            return idBaslangici + i;
+        }
+
+        String id(int i) {
+            return NesneKimligi.metin(anahtar(i));
+        }
+
+        KuantumNesnesi nesne(int i) {
+            return Main.nesneOlustur(tip[i], anahtar(i), stabilite[i], tehlike[i]);
+        }
+    }
+
+    private final SplittableRandom kok;
+    private long sonrakiId;
+    // Verilirse ID blokları buradan ayrılır, idBaslangici yok sayılır
+    private KimlikUreteci kimlikler;
+
+    // Tip karışımı: kayıtlı tipler kod sırasıyla (TipKayitDefteri.tipler()), eşit
+    // ağırlıklı başlar; ağırlıklar birikimli, kodlar aynı sırada
+    private final int[] tipKodlari = TipKayitDefteri.tipler().stream().mapToInt(NesneTipi::kod).toArray();
+    private double[] tipBirikimli = birikimli(esit(tipKodlari.length));
+    // Stabilite: normal değilse [min, maks] aralığında tam sayı
+    private boolean stabiliteNormal;
+    private double stabiliteA = 60;
+    private double stabiliteB = 100;
+    // Tehlike 1-10 ağırlıkları (birikimli)
+    private double[] tehlikeBirikimli = birikimli(1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+
+    IsYukuUretici(long tohum) {
+        this.kok = new SplittableRandom(tohum);
+    }
+
+    // ===============================
+    // Ayarlar
+    // ===============================
+    IsYukuUretici idBaslangici(long ilkAnahtar) {
+        if (ilkAnahtar < 0) throw new IllegalArgumentException("Geçersiz ID başlangıcı: " + ilkAnahtar);
+        this.sonrakiId = ilkAnahtar;
+        return this;
+    }
+
+    // Aynı üreteçten anahtar alan başka ekleyicilerle çakışmamak için
+    IsYukuUretici kimlikler(KimlikUreteci kimlikler) {
+        this.kimlikler = kimlikler;
+        return this;
+    }
+
+    // Kayıtlı tip başına bir ağırlık, TipKayitDefteri.tipler() sırasıyla
+    IsYukuUretici tipKarisimi(double... agirliklar) {
+        if (agirliklar.length != tipKodlari.length) {
+            throw new IllegalArgumentException("Tip karışımı için " + tipKodlari.length
+                    + " ağırlık gerekir, verilen: " + agirliklar.length);
+        }
+        this.tipBirikimli = birikimli(agirliklar);
+        return this;
+    }
+
+    // Eşit olasılıklı tam sayı stabilite, min..maks dahil
+    IsYukuUretici stabiliteAraligi(int min, int maks) {
+        if (min < 1 || maks > 100 || min > maks) {
+            throw new IllegalArgumentException("Stabilite aralığı 1-100 içinde olmalıdır: " + min + "-" + maks);
+        }
+        this.stabiliteNormal = false;
+        this.stabiliteA = min;
+        this.stabiliteB = maks;
+        return this;
+    }
+
+    // Normal dağılımlı stabilite; 100'e sınırlanır, 0 ve altı yeniden çekilir
+    IsYukuUretici stabiliteNormal(double ortalama, double sapma) {
+        if (sapma < 0) throw new IllegalArgumentException("Sapma negatif olamaz: " + sapma);
+        if (ortalama <= 0) throw new IllegalArgumentException("Ortalama pozitif olmalıdır: " + ortalama);
+        this.stabiliteNormal = true;
+        this.stabiliteA = ortalama;
+        this.stabiliteB = sapma;
+        return this;
+    }
+
+    // 10 ağırlık: tehlike 1..10
+    IsYukuUretici tehlikeAgirliklari(double... agirliklar) {
+        if (agirliklar.length != 10) {
+            throw new IllegalArgumentException("Tehlike için 10 ağırlık gerekir, verilen: " + agirliklar.length);
+        }
+        this.tehlikeBirikimli = birikimli(agirliklar);
+        return this;
+    }
+
+    // ===============================
+    // Üretim
+    // ===============================
+    Veri uret(int adet) {
+        if (adet < 0) throw new IllegalArgumentException("Geçersiz adet: " + adet);
+        if (kimlikler != null) sonrakiId = kimlikler.ayir(adet);
+        Veri veri = new Veri(sonrakiId, adet);
+        sonrakiId += adet;
+
+        int parcaSayisi = (adet + PARCA_BOYUTU - 1) / PARCA_BOYUTU;
+        SplittableRandom[] ureteciler = new SplittableRandom[parcaSayisi];
+        for (int p = 0; p < parcaSayisi; p++) {
+            ureteciler[p] = kok.split();
+        }
+
+        IntStream.range(0, parcaSayisi).parallel().forEach(p -> {
+            SplittableRandom r = ureteciler[p];
+            int bas = p * PARCA_BOYUTU;
+            int son = Math.min(adet, bas + PARCA_BOYUTU);
+            for (int i = bas; i < son; i++) {
+                veri.tip[i] = (byte) tipKodlari[sec(tipBirikimli, r.nextDouble())];
+                veri.stabilite[i] = stabilite(r);
+                veri.tehlike[i] = (byte) (1 + sec(tehlikeBirikimli, r.nextDouble()));
+            }
+        });
+        return veri;
+    }
+
+    // Nesneler de paralel oluşturulur; sıra satır sırasıdır
+    KuantumNesnesi[] nesneler(int adet) {
+        Veri veri = uret(adet);
+        KuantumNesnesi[] sonuc = new KuantumNesnesi[adet];
+        IntStream.range(0, adet).parallel().forEach(i -> sonuc[i] = veri.nesne(i));
+        return sonuc;
+    }
+
+    // Nesneye dönüştürmeden kolon envanterine ekler
+    void kolonaEkle(KolonEnvanter kolon, int adet) {
+        Veri veri = uret(adet);
+        for (int i = 0; i < adet; i++) {
+            kolon.ekle(veri.idBaslangici + i, veri.tip[i], veri.stabilite[i], veri.tehlike[i]);
+        }
+    }
+
+    private double stabilite(SplittableRandom r) {
+        if (!stabiliteNormal) {
+            return stabiliteA + r.nextInt((int) (stabiliteB - stabiliteA) + 1);
+        }
+        // Ortalama pozitif: her çekiliş en az yarı olasılıkla kabul edilir
+        double s;
+        do {
+            s = stabiliteA + stabiliteB * r.nextGaussian();
+        } while (s <= 0);
+        return Math.min(s, 100);
+    }
+
+    private static int sec(double[] birikimli, double u) {
+        double hedef = u * birikimli[birikimli.length - 1];
+        for (int i = 0; i < birikimli.length - 1; i++) {
+            if (hedef < birikimli[i]) return i;
+        }
+        return birikimli.length - 1;
+    }
+
+    private static double[] birikimli(double... agirliklar) {
+        double[] sonuc = new double[agirliklar.length];
+        double toplam = 0;
+        for (int i = 0; i < agirliklar.length; i++) {
+            if (agirliklar[i] < 0) throw new IllegalArgumentException("Ağırlık negatif olamaz: " + agirliklar[i]);
+            toplam += agirliklar[i];
+            sonuc[i] = toplam;
+        }
+        if (toplam <= 0) throw new IllegalArgumentException("Ağırlıkların toplamı pozitif olmalıdır");
+        return sonuc;
+    }
+
+    private static double[] esit(int adet) {
+        double[] agirliklar = new double[adet];
+        Arrays.fill(agirliklar, 1);
+        return agirliklar;
+    }
+}
@@ -0,0 +1,202 @@
+package cli;
+
+import ortak.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// ===============================
+// Kalıcı Envanter (bellek eşlemeli dosya)
+// ===============================
+// Dosya düzeni, sabit genişlikli:
+//   başlık (16 bayt): sihir(4) sürüm(4) kayıt sayısı(8)
+//   kayıt  (18 bayt): anahtar(8) stabilite(8) tip(1) tehlike(1)
+// Açılış yalnızca eşleme yapar, kayıtlar ayrıştırılmaz; ID indeksi ilk aramada
+// anahtar sütunundan kurulur. Stabilite güncellemeleri yerinde yazılır.
+// Eklemeler tek iş parçacığından yapılmalıdır; okuma ve stabilite yazma eş zamanlı olabilir.
+class KaliciEnvanter implements AutoCloseable {
+
+    private static final int SIHIR = 0x4B414D42; // "KAMB"
+    private static final int SURUM = 1;
+    static final int BASLIK = 16;
+    static final int KAYIT = 18;
+
+    private static final int ANAHTAR = 0;
+    private static final int STABILITE = 8;
+    private static final int TIP = 16;
+    private static final int TEHLIKE = 17;
+
+    private final FileChannel kanal;
+    private MappedByteBuffer harita;
+    private int kapasite;
+    private int boyut;
+    private volatile AnahtarIndeksi indeks;
+
+    private KaliciEnvanter(FileChannel kanal) {
+        this.kanal = kanal;
+    }
+
+    // Dosya yoksa oluşturulur; kapasite dolunca eşleme büyütülür
+    static KaliciEnvanter ac(Path dosya, int kapasite) throws IOException {
+        FileChannel kanal = FileChannel.open(dosya, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        KaliciEnvanter envanter = new KaliciEnvanter(kanal);
+        try {
+            envanter.baslat(kapasite);
+        } catch (IOException | RuntimeException e) {
+            kanal.close();
+            throw e;
+        }
+        return envanter;
+    }
+
+    private void baslat(int istenenKapasite) throws IOException {
+        long dosyaBoyutu = kanal.size();
+        if (dosyaBoyutu == 0) {
+            esle(Math.max(istenenKapasite, 16));
+            harita.putInt(0, SIHIR);
+            harita.putInt(4, SURUM);
+            harita.putLong(8, 0);
+            return;
+        }
+        if (dosyaBoyutu < BASLIK) {
+            throw new IOException("Geçersiz envanter dosyası: başlık eksik");
+        }
+
+        int dosyaKapasitesi = (int) ((dosyaBoyutu - BASLIK) / KAYIT);
+        esle(Math.max(Math.max(istenenKapasite, dosyaKapasitesi), 16));
+        if (harita.getInt(0) != SIHIR || harita.getInt(4) != SURUM) {
+            throw new IOException("Geçersiz envanter dosyası: sihirli sayı veya sürüm uyuşmuyor");
+        }
+        long kayitSayisi = harita.getLong(8);
+        if (kayitSayisi < 0 || kayitSayisi > dosyaKapasitesi) {
+            throw new IOException("Geçersiz envanter dosyası: kayıt sayısı " + kayitSayisi);
+        }
+        boyut = (int) kayitSayisi;
+    }
+
+    private void esle(int yeniKapasite) throws IOException {
+        long bayt = BASLIK + (long) yeniKapasite * KAYIT;
+        if (bayt > Integer.MAX_VALUE) {
+            throw new IOException("Envanter dosyası tek eşleme sınırını aşıyor: " + yeniKapasite + " kayıt");
+        }
+        harita = kanal.map(FileChannel.MapMode.READ_WRITE, 0, bayt);
+        kapasite = yeniKapasite;
+    }
+
+    // ===============================
+    // Kayıt erişimi
+    // ===============================
+    public synchronized int ekle(long anahtar, byte tip, double stabilite, int tehlike) throws IOException {
+        if (tehlike < 1 || tehlike > 10) {
+            throw new IllegalArgumentException("Tehlike seviyesi 1-10 arası olmalıdır!");
+        }
+        AnahtarIndeksi idx = indeks();
+        if (idx.iceriyor(anahtar)) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + NesneKimligi.metin(anahtar));
+        }
+        if (boyut == kapasite) {
+            esle((int) Math.min((long) kapasite * 2, (Integer.MAX_VALUE - BASLIK) / KAYIT));
+            if (boyut == kapasite) throw new IOException("Envanter dosyası dolu");
+        }
+
+        int i = boyut;
+        int ofset = ofset(i);
+        harita.putLong(ofset + ANAHTAR, anahtar);
+        harita.putDouble(ofset + STABILITE, stabilite);
+        harita.put(ofset + TIP, tip);
+        harita.put(ofset + TEHLIKE, (byte) tehlike);
+        idx.koy(anahtar, i);
+        boyut = i + 1;
+        harita.putLong(8, boyut);
+        return i;
+    }
+
+    public int ekle(KuantumNesnesi nesne) throws IOException {
+        return ekle(nesne.getAnahtar(), (byte) nesne.getTipKodu(), nesne.getStabilite(), nesne.getTehlikeSeviyesi());
+    }
+
+    // Satır indeksi, bulunamazsa -1
+    public int bul(long anahtar) {
+        return indeks().al(anahtar);
+    }
+
+    public int bul(CharSequence id) {
+        long anahtar = NesneKimligi.coz(id);
+        return anahtar == NesneKimligi.YOK ? -1 : bul(anahtar);
+    }
+
+    public long anahtar(int i) {
+        return harita.getLong(ofset(i) + ANAHTAR);
+    }
+
+    public double stabilite(int i) {
+        return harita.getDouble(ofset(i) + STABILITE);
+    }
+
+    public void stabiliteYaz(int i, double stabilite) {
+        harita.putDouble(ofset(i) + STABILITE, stabilite);
+    }
+
+    // Nesnenin güncel stabilitesini kendi satırına yazar (StabiliteDinleyicisi olarak kullanılabilir)
+    public void stabiliteYaz(KuantumNesnesi nesne) {
+        int i = bul(nesne.getAnahtar());
+        if (i >= 0) stabiliteYaz(i, nesne.getStabilite());
+    }
+
+    public byte tip(int i) {
+        return harita.get(ofset(i) + TIP);
+    }
+
+    public int tehlike(int i) {
+        return harita.get(ofset(i) + TEHLIKE);
+    }
+
+    public int boyut() {
+        return boyut;
+    }
+
+    // Tüm kayıtları kolon envanterine kopyalar
+    public KolonEnvanter kolonaYukle() {
+        KolonEnvanter kolon = new KolonEnvanter(boyut);
+        for (int i = 0; i < boyut; i++) {
+            kolon.ekle(anahtar(i), tip(i), stabilite(i), tehlike(i));
+        }
+        return kolon;
+    }
+
+    // Kirli sayfaları diske yazar
+    public void zorla() {
+        harita.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        zorla();
+        kanal.close();
+    }
+
+    private static int ofset(int i) {
+        return BASLIK + i * KAYIT;
+    }
+
+    private AnahtarIndeksi indeks() {
+        AnahtarIndeksi idx = indeks;
+        if (idx == null) {
+            synchronized (this) {
+                idx = indeks;
+                if (idx == null) {
+                    idx = new AnahtarIndeksi(boyut);
+                    for (int i = 0; i < boyut; i++) {
+                        idx.koy(anahtar(i), i);
+                    }
+                    indeks = idx;
+                }
+            }
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,527 @@
+package cli;
+
+import ortak.*;
+
+import java.util.*;
+
+// ===============================
+// Kolon Tabanlı Envanter (Structure-of-Arrays)
+// ===============================
+// Her nesne ayrı bir heap nesnesi yerine ilkel dizilerde bir satırdır.
+// Tip davranışı (bozunma, kritiklik) tip koduna göre tablolardan okunur.
+// Envanter arayüzünden satırlar hafif görünümler olarak verilir (--kolon);
+// görünümün tüm değişiklikleri kolonlara yazılır ve dinleyicilere bildirilir.
+// Eş zamanlı kullanım için değildir; toplu analizde her iş parçacığı ayrı satırlara yazar.
+class KolonEnvanter implements Envanter {
+
+    // Tip koduna göre analiz başına stabilite kaybı, kritiklik ve soğutma (TipKayitDefteri)
+    static final double[] BOZUNMA = TipKayitDefteri.BOZUNMA;
+    static final boolean[] KRITIK = TipKayitDefteri.KRITIK;
+    static final double[] SOGUTMA = TipKayitDefteri.SOGUTMA;
+
+    private long[] anahtar;
+    private double[] stabilite;
+    private byte[] tehlike;
+    private byte[] tip;
+    // Çöküş satır başına bir kez bildirilir; soğutulup stabilitesi artan satır çökmüş kalır
+    private boolean[] coktu;
+    // Risk kovası (stabilitenin tam sayı yüzdesi) ve kritik satırlar için kova
+    // listesindeki komşular; liste sonu -1
+    private byte[] kova;
+    private int[] sonraki;
+    private int[] onceki;
+    private int boyut;
+    private int kritikSayisi;
+    private final int[] tipSayilari = new int[TipKayitDefteri.kodAraligi()];
+    // Anahtar -> satır, kutulamasız
+    private final AnahtarIndeksi indeks;
+    private final KolonRiskIndeksi riskIndeksi = new KolonRiskIndeksi();
+    // Dinleyici yoksa bildirim için görünüm oluşturulmaz
+    private final DinleyiciListesi yayici = new DinleyiciListesi(riskIndeksi);
+
+    public KolonEnvanter() {
+        this(16);
+    }
+
+    public KolonEnvanter(int kapasite) {
+        kapasite = Math.max(kapasite, 1);
+        anahtar = new long[kapasite];
+        stabilite = new double[kapasite];
+        tehlike = new byte[kapasite];
+        tip = new byte[kapasite];
+        coktu = new boolean[kapasite];
+        kova = new byte[kapasite];
+        sonraki = new int[kapasite];
+        onceki = new int[kapasite];
+        indeks = new AnahtarIndeksi(kapasite);
+    }
+
+    // Nesnenin değerleri kopyalanır; envanterdeki hali görünümdür (bkz. bul)
+    @Override
+    public void ekle(KuantumNesnesi nesne) {
+        int i = ekle(nesne.getAnahtar(), (byte) nesne.getTipKodu(), nesne.getStabilite(), nesne.getTehlikeSeviyesi());
+        if (nesne.isCoktu()) coktu[i] = true;
+    }
+
+    // Stabilitesi 0 olarak eklenen satır (ör. kalıcı kayıttan) zaten çökmüştür
+    public int ekle(long k, byte tipKodu, double stab, int tehlikeSeviyesi) {
+        if (tehlikeSeviyesi < 1 || tehlikeSeviyesi > 10) {
+            throw new IllegalArgumentException("Tehlike seviyesi 1-10 arası olmalıdır!");
+        }
+        if (!TipKayitDefteri.gecerli(tipKodu)) {
+            throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        }
+        if (indeks.iceriyor(k)) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + NesneKimligi.metin(k));
+        }
+        if (boyut == anahtar.length) buyut();
+
+        int i = boyut++;
+        anahtar[i] = k;
+        stabilite[i] = sinirla(stab);
+        tehlike[i] = (byte) tehlikeSeviyesi;
+        tip[i] = tipKodu;
+        coktu[i] = stabilite[i] <= 0;
+        indeks.koy(k, i);
+        riskIndeksi.satirEkle(i);
+        tipSayilari[tipKodu]++;
+        if (KRITIK[tipKodu]) kritikSayisi++;
+        if (!yayici.bos()) yayici.eklendi(gorunum(i));
+        return i;
+    }
+
+    // Son satır boşalan yere taşınır. Dönen nesne satırın bağımsız kopyasıdır.
+    @Override
+    public KuantumNesnesi cikar(long k) {
+        int i = indeks.sil(k);
+        if (i == AnahtarIndeksi.YOK) return null;
+        KuantumNesnesi nesne = TipKayitDefteri.olustur(tip[i], k, stabilite[i], tehlike[i]);
+        if (coktu[i]) nesne.coktuIsaretle();
+        tipSayilari[tip[i]]--;
+        if (KRITIK[tip[i]]) kritikSayisi--;
+        riskIndeksi.satirCikar(i);
+
+        int son = --boyut;
+        if (i != son) {
+            anahtar[i] = anahtar[son];
+            stabilite[i] = stabilite[son];
+            tehlike[i] = tehlike[son];
+            tip[i] = tip[son];
+            coktu[i] = coktu[son];
+            riskIndeksi.satirTasi(son, i);
+            indeks.koy(anahtar[i], i);
+        }
+        yayici.cikarildi(nesne);
+        return nesne;
+    }
+
+    private void buyut() {
+        int yeni = anahtar.length * 2;
+        anahtar = Arrays.copyOf(anahtar, yeni);
+        stabilite = Arrays.copyOf(stabilite, yeni);
+        tehlike = Arrays.copyOf(tehlike, yeni);
+        tip = Arrays.copyOf(tip, yeni);
+        coktu = Arrays.copyOf(coktu, yeni);
+        kova = Arrays.copyOf(kova, yeni);
+        sonraki = Arrays.copyOf(sonraki, yeni);
+        onceki = Arrays.copyOf(onceki, yeni);
+    }
+
+    private static double sinirla(double s) {
+        if (s < 0) return 0;
+        if (s > 100) return 100;
+        return s;
+    }
+
+    // Satır indeksi, bulunamazsa -1
+    public int satir(long k) {
+        return indeks.al(k);
+    }
+
+    @Override
+    public KuantumNesnesi bul(long k) {
+        int i = indeks.al(k);
+        return i == AnahtarIndeksi.YOK ? null : gorunum(i);
+    }
+
+    @Override
+    public boolean iceriyor(long k) {
+        return indeks.iceriyor(k);
+    }
+
+    // ===============================
+    // Satır değişiklikleri (dinleyicilere bildirilir)
+    // ===============================
+
+    // Stabiliteyi fark kadar değiştirir; COKTU satır başına yalnızca bir kez, stabiliteyi
+    // ilk kez 0'a indiren değişiklikte döner (KuantumNesnesi.sonuc ile aynı).
+    private AnalizSonucu degistir(int i, double fark, KuantumNesnesi gorunum) {
+        double eski = stabilite[i];
+        double yeni = sinirla(eski + fark);
+        stabilite[i] = yeni;
+        riskIndeksi.satirDegisti(i);
+        boolean coken = yeni <= 0 && !coktu[i];
+        if (coken) coktu[i] = true;
+        if (eski != yeni && !yayici.bos()) {
+            if (gorunum == null) gorunum = gorunum(i);
+            yayici.stabiliteDegisti(gorunum);
+            if (coken) yayici.coktu(gorunum);
+        }
+        if (coken) return AnalizSonucu.COKTU;
+        return yeni < KuantumNesnesi.UYARI_ESIGI ? AnalizSonucu.UYARI : AnalizSonucu.TAMAM;
+    }
+
+    private void sogut(int i, KuantumNesnesi gorunum) {
+        degistir(i, SOGUTMA[tip[i]], gorunum);
+        if (!yayici.bos()) yayici.sogutuldu(gorunum);
+    }
+
+    private void stabiliteAyarla(int i, double stab, KuantumNesnesi gorunum) {
+        double eski = stabilite[i];
+        stabilite[i] = sinirla(stab);
+        riskIndeksi.satirDegisti(i);
+        if (eski != stabilite[i] && !yayici.bos()) yayici.stabiliteDegisti(gorunum == null ? gorunum(i) : gorunum);
+    }
+
+    // ===============================
+    // Toplu çekirdekler
+    // ===============================
+    // Satır satır bildirim yapmazlar: çalışırken deponun tek sahibi çağırandır
+    // (ör. deneme/TikSimulasyonu), dinleyici beklenmez. Risk kovaları da çekirdekte
+    // güncellenmez (satırlar paralel işlenebilir); çekirdekten sonra
+    // riskKovalariniYenile() çağrılır.
+
+    // Zaman adımlı simülasyon çekirdeği: [bas, son) satırlarına bir tik uygular.
+    // Kayıp BOZUNMA[tip] * tehlike * carpan; çökmüş satırlar atlanır, eşiğin altına
+    // düşen kritik satırlar SOGUTMA[tip] kadar soğutulur.
+    // Dönüş: üst 32 bit çöken, alt 32 bit soğutulan satır sayısı.
+    long tikUygula(int bas, int son, double carpan, double sogutmaEsigi) {
+        double[] s = stabilite;
+        byte[] t = tip;
+        byte[] d = tehlike;
+        boolean[] c = coktu;
+        int coken = 0;
+        int sogutulan = 0;
+        for (int i = bas; i < son; i++) {
+            if (c[i]) continue;
+            byte k = t[i];
+            double yeni = s[i] - BOZUNMA[k] * d[i] * carpan;
+            if (yeni <= 0) {
+                s[i] = 0;
+                c[i] = true;
+                coken++;
+            } else if (KRITIK[k] && yeni < sogutmaEsigi) {
+                s[i] = sinirla(yeni + SOGUTMA[k]);
+                sogutulan++;
+            } else {
+                s[i] = yeni;
+            }
+        }
+        return ((long) coken << 32) | (sogutulan & 0xFFFFFFFFL);
+    }
+
+    // Toplu çekirdeklerden sonra, tek iş parçacığında: kovası değişen satırlar taşınır
+    void riskKovalariniYenile() {
+        for (int i = 0; i < boyut; i++) riskIndeksi.satirDegisti(i);
+    }
+
+    // ===============================
+    // Envanter sorguları
+    // ===============================
+    @Override
+    public int tipSayisi(int tipKodu) {
+        if (!TipKayitDefteri.gecerli(tipKodu)) {
+            throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        }
+        return tipSayilari[tipKodu];
+    }
+
+    @Override
+    public int kritikSayisi() {
+        return kritikSayisi;
+    }
+
+    @Override
+    public RiskIndeksi riskIndeksi() {
+        return riskIndeksi;
+    }
+
+    @Override
+    public void dinleyiciEkle(StabiliteDinleyicisi dinleyici) {
+        yayici.ekle(dinleyici);
+    }
+
+    @Override
+    public int boyut() {
+        return boyut;
+    }
+
+    // Satır sırasıyla görünümler
+    @Override
+    public Iterator<KuantumNesnesi> iterator() {
+        return new Iterator<>() {
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return i < boyut;
+            }
+
+            @Override
+            public KuantumNesnesi next() {
+                if (i >= boyut) throw new NoSuchElementException();
+                return gorunum(i++);
+            }
+        };
+    }
+
+    public long anahtar(int i) {
+        return anahtar[i];
+    }
+
+    public double stabilite(int i) {
+        return stabilite[i];
+    }
+
+    public int tehlike(int i) {
+        return tehlike[i];
+    }
+
+    public byte tip(int i) {
+        return tip[i];
+    }
+
+    // ===============================
+    // Risk indeksi
+    // ===============================
+    // Nesne ve küme yerine ilkel kolonlar: satırın kovası kova[] kolonunda, kova
+    // başına satır sayısı sayilar[]'da tutulur. Kritik satırlar kovalarına göre
+    // sonraki[]/onceki[] ile bağlı listelerdedir; ekleme, çıkarma ve kova
+    // değişikliği O(1)'dir. "En riskli k" en düşük kovadan başlayıp k satır
+    // toplanınca durur. Bildirim yolu (ekle/cikar/stabiliteDegisti) kullanılmaz;
+    // satır değişiklikleri kolon üzerinden doğrudan işlenir. Toplu analizde paralel
+    // iş parçacıkları farklı satırlara yazar; sayaç ve listeler bu yüzden indeksin
+    // monitöründe değiştirilir.
+    private final class KolonRiskIndeksi extends RiskIndeksi {
+
+        private static final int KOVA_SAYISI = 101;
+
+        private final int[] sayilar = new int[KOVA_SAYISI];
+        // Kova -> kritik satır listesinin başı, boşsa -1
+        private final int[] bas = new int[KOVA_SAYISI];
+
+        KolonRiskIndeksi() {
+            Arrays.fill(bas, -1);
+        }
+
+        synchronized void satirEkle(int i) {
+            int k = RiskIndeksi.kova(stabilite[i]);
+            kova[i] = (byte) k;
+            sayilar[k]++;
+            if (KRITIK[tip[i]]) bagla(i);
+        }
+
+        synchronized void satirCikar(int i) {
+            sayilar[kova[i]]--;
+            if (KRITIK[tip[i]]) coz(i);
+        }
+
+        // Son satır boşalan i'ye taşındı (diğer kolonlar kopyalandıktan sonra)
+        synchronized void satirTasi(int son, int i) {
+            kova[i] = kova[son];
+            if (!KRITIK[tip[i]]) return;
+            int o = onceki[son];
+            int s = sonraki[son];
+            onceki[i] = o;
+            sonraki[i] = s;
+            if (o >= 0) sonraki[o] = i;
+            else bas[kova[i]] = i;
+            if (s >= 0) onceki[s] = i;
+        }
+
+        void satirDegisti(int i) {
+            if (RiskIndeksi.kova(stabilite[i]) != kova[i]) kovaTasi(i);
+        }
+
+        private synchronized void kovaTasi(int i) {
+            int yeni = RiskIndeksi.kova(stabilite[i]);
+            int eski = kova[i];
+            if (yeni == eski) return;
+            sayilar[eski]--;
+            sayilar[yeni]++;
+            if (KRITIK[tip[i]]) {
+                coz(i);
+                kova[i] = (byte) yeni;
+                bagla(i);
+            } else {
+                kova[i] = (byte) yeni;
+            }
+        }
+
+        private void bagla(int i) {
+            int k = kova[i];
+            int b = bas[k];
+            onceki[i] = -1;
+            sonraki[i] = b;
+            if (b >= 0) onceki[b] = i;
+            bas[k] = i;
+        }
+
+        private void coz(int i) {
+            int o = onceki[i];
+            int s = sonraki[i];
+            if (o >= 0) sonraki[o] = s;
+            else bas[kova[i]] = s;
+            if (s >= 0) onceki[s] = o;
+        }
+
+        @Override
+        public void ekle(KuantumNesnesi nesne) {
+        }
+
+        @Override
+        public void cikar(KuantumNesnesi nesne) {
+        }
+
+        @Override
+        public void stabiliteDegisti(KuantumNesnesi nesne) {
+        }
+
+        // Stabilite artan, eşitlikte tehlike azalan, sonra anahtar
+        @Override
+        public synchronized List<KuantumNesnesi> enRiskliKritikler(int k) {
+            if (k <= 0) return new ArrayList<>();
+            List<Integer> satirlar = new ArrayList<>();
+            for (int kv = 0; kv < KOVA_SAYISI && satirlar.size() < k; kv++) {
+                for (int i = bas[kv]; i >= 0; i = sonraki[i]) satirlar.add(i);
+            }
+            satirlar.sort(Comparator
+                    .comparingDouble((Integer i) -> stabilite[i])
+                    .thenComparingInt(i -> -tehlike[i])
+                    .thenComparingLong(i -> anahtar[i]));
+            List<KuantumNesnesi> sonuc = new ArrayList<>(Math.min(k, satirlar.size()));
+            for (int j = 0; j < satirlar.size() && j < k; j++) sonuc.add(gorunum(satirlar.get(j)));
+            return sonuc;
+        }
+
+        @Override
+        public synchronized int esikAltindaSayisi(int esik) {
+            int toplam = 0;
+            for (int i = 0; i < Math.min(esik, KOVA_SAYISI); i++) toplam += sayilar[i];
+            return toplam;
+        }
+
+        @Override
+        public synchronized int[] dagilim(int genislik) {
+            int[] sonuc = new int[(100 + genislik - 1) / genislik];
+            for (int i = 0; i < KOVA_SAYISI; i++) {
+                sonuc[Math.min(i / genislik, sonuc.length - 1)] += sayilar[i];
+            }
+            return sonuc;
+        }
+    }
+
+    // ===============================
+    // Görünümler
+    // ===============================
+
+    // Satırı KuantumNesnesi olarak gösteren hafif görünüm; durum dizilerde kalır
+    public KuantumNesnesi gorunum(int i) {
+        return KRITIK[tip[i]] ? new KritikGorunum(this, i) : new Gorunum(this, i);
+    }
+
+    // Aynı satırın görünümleri eşittir (anahtar). Çıkarmada satırlar yer
+    // değiştirdiği için satır, anahtar tutmuyorsa indeksten yeniden bulunur.
+    static class Gorunum extends KuantumNesnesi {
+        final KolonEnvanter depo;
+        private int satir;
+
+        Gorunum(KolonEnvanter depo, int satir) {
+            super(depo.tip[satir], depo.anahtar[satir]);
+            this.depo = depo;
+            this.satir = satir;
+        }
+
+        final int satir() {
+            int i = satir;
+            if (i >= depo.boyut || depo.anahtar[i] != getAnahtar()) {
+                i = depo.satir(getAnahtar());
+                if (i < 0) throw new IllegalStateException("Nesne envanterde değil: " + getId());
+                satir = i;
+            }
+            return i;
+        }
+
+        @Override
+        public double getStabilite() {
+            return depo.stabilite[satir()];
+        }
+
+        @Override
+        public void setStabilite(double stabilite) {
+            depo.stabiliteAyarla(satir(), stabilite, this);
+        }
+
+        @Override
+        public int getTehlikeSeviyesi() {
+            return depo.tehlike[satir()];
+        }
+
+        @Override
+        public void setTehlikeSeviyesi(int tehlikeSeviyesi) {
+            if (tehlikeSeviyesi < 1 || tehlikeSeviyesi > 10) {
+                throw new IllegalArgumentException("Tehlike seviyesi 1-10 arası olmalıdır!");
+            }
+            depo.tehlike[satir()] = (byte) tehlikeSeviyesi;
+        }
+
+        @Override
+        protected double stabiliteDegistir(double fark) {
+            int i = satir();
+            depo.degistir(i, fark, this);
+            return depo.stabilite[i];
+        }
+
+        @Override
+        public boolean isCoktu() {
+            return depo.coktu[satir()];
+        }
+
+        @Override
+        public AnalizSonucu hasarAl(double miktar) {
+            return depo.degistir(satir(), -miktar, this);
+        }
+
+        @Override
+        public AnalizSonucu analiz() {
+            return depo.degistir(satir(), -BOZUNMA[getTipKodu()], this);
+        }
+
+        @Override
+        protected void sogutmaUygula() {
+            depo.sogut(satir(), this);
+            LogHatti.sistem().bilgi("Acil soğutma uygulandı.");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Gorunum g && g.depo == depo && g.getAnahtar() == getAnahtar();
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(getAnahtar());
+        }
+    }
+
+    static class KritikGorunum extends Gorunum implements IKritik {
+        KritikGorunum(KolonEnvanter depo, int satir) {
+            super(depo, satir);
+        }
+
+        @Override
+        public void acilDurumSogutmasi() {
+            sogutmaUygula();
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package cli;
+
+import ortak.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+// ===============================
+// Kontrol Sunucusu (NIO, satır protokolü)
+// ===============================
+// Tek seçici iş parçacığı tüm bağlantıları yürütür ve envanterin tek yazarıdır;
+// envanter ayrıca kilitlenmez (parçalı envanterde nesne işlemleri sahip parçaya
+// gönderilir). İstemci istekleri yanıt beklemeden art arda
+// gönderebilir: bir okumada gelen tüm tam satırlar işlenir, yanıtlar tek tampona
+// toplanıp tek yazımla gönderilir. Bekleyen çıktı sınırı aşan bağlantıdan,
+// tampon boşalana kadar okunmaz.
+//
+// LIST yanıtı tek seferde üretilmez: kimlik sırasıyla LISTE_SAYFASI'lık sayfalar,
+// çıkış tamponu sınırın altına indikçe eklenir. Liste sürerken bağlantının sonraki
+// satırları işlenmez; liste bitince kalındığı yerden devam edilir. Sunucuda silme
+// komutu yoktur, sayfalar arasında eklenen nesneler listeye girmez (en çok
+// duyurulan n satır yazılır).
+//
+// İstekler (satır başına bir):          Yanıtlar:
+//   ADD n (1..MAKS_EKLEME)               OK <ilk-id> <n>
+//   ANALYZE id                           OK <TAMAM|UYARI|COKTU> <stabilite>
+//   COOL id                              OK <stabilite>
+//   LIST                                 OK <n>, ardından n satır durum bilgisi
+//   STATS                                OK toplam=<n> kritik=<n> riskli=<n> ... dusen_log=<n>
+//   PING                                 OK
+//   QUIT                                 bağlantı kapanır
+// Hatalı istek: ERR <mesaj>
+class KontrolSunucusu implements AutoCloseable {
+
+    private static final int GIRIS_TAMPONU = 16 * 1024;
+    private static final int CIKIS_SINIRI = 1 << 20;
+    // Tek ADD isteğinde en çok bu kadar nesne: üretim ve ekleme seçici iş
+    // parçacığında yapılır, diğer bağlantılar bu sürede bekler
+    static final int MAKS_EKLEME = 1 << 16;
+    // Satır başına ~80 bayt: bir sayfa çıkış sınırının altında kalır
+    private static final int LISTE_SAYFASI = 8 * 1024;
+
+    private final Envanter envanter;
+    private final Selector secici;
+    private final ServerSocketChannel dinleyici;
+    private volatile boolean calisiyor = true;
+
+    // Seçici iş parçacığında yeniden kullanılır
+    private final StringBuilder yanit = new StringBuilder(4096);
+    private final StringBuilder sayfaMetni = new StringBuilder(4096);
+    private final EnvanterSorgusu sorgu = new EnvanterSorgusu(LISTE_SAYFASI);
+    private long istekSayisi;
+    private int baglantiSayisi;
+
+    private static class Baglanti {
+        final ByteBuffer giris = ByteBuffer.allocate(GIRIS_TAMPONU);
+        ByteBuffer cikis = ByteBuffer.allocate(0);
+        boolean kapanacak;
+        // Süren LIST: yazılacak satır sayısı (0 ise liste yok) ve sonraki sayfanın imleci
+        int listeKalan;
+        EnvanterSorgusu.Imlec imlec;
+    }
+
+    KontrolSunucusu(Envanter envanter, InetSocketAddress adres) throws IOException {
+        this.envanter = envanter;
+        this.secici = Selector.open();
+        this.dinleyici = ServerSocketChannel.open();
+        dinleyici.bind(adres, 1024);
+        dinleyici.configureBlocking(false);
+        dinleyici.register(secici, SelectionKey.OP_ACCEPT);
+    }
+
+    int port() throws IOException {
+        return ((InetSocketAddress) dinleyici.getLocalAddress()).getPort();
+    }
+
+    // close() çağrılana kadar döner; dönerken tüm bağlantıları kapatır
+    void calistir() throws IOException {
+        try {
+            dongu();
+        } finally {
+            for (SelectionKey anahtar : secici.keys()) {
+                anahtar.channel().close();
+            }
+            secici.close();
+        }
+    }
+
+    private void dongu() throws IOException {
+        while (calisiyor) {
+            secici.select();
+            Iterator<SelectionKey> it = secici.selectedKeys().iterator();
+            while (it.hasNext()) {
+                SelectionKey anahtar = it.next();
+                it.remove();
+                try {
+                    if (!anahtar.isValid()) continue;
+                    if (anahtar.isAcceptable()) kabulEt();
+                    if (anahtar.isValid() && anahtar.isReadable()) oku(anahtar);
+                    if (anahtar.isValid() && anahtar.isWritable()) yaz(anahtar);
+                } catch (IOException e) {
+                    baglantiyiKapat(anahtar);
+                }
+            }
+        }
+    }
+
+    private void kabulEt() throws IOException {
+        SocketChannel kanal;
+        while ((kanal = dinleyici.accept()) != null) {
+            kanal.configureBlocking(false);
+            kanal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            kanal.register(secici, SelectionKey.OP_READ, new Baglanti());
+            baglantiSayisi++;
+        }
+    }
+
+    private void oku(SelectionKey anahtar) throws IOException {
+        SocketChannel kanal = (SocketChannel) anahtar.channel();
+        Baglanti b = (Baglanti) anahtar.attachment();
+        int n = kanal.read(b.giris);
+        if (n < 0) {
+            baglantiyiKapat(anahtar);
+            return;
+        }
+        isle(anahtar);
+    }
+
+    // Giriş tamponundaki tam satırları işler; LIST akışı sürerken durur
+    private void isle(SelectionKey anahtar) throws IOException {
+        Baglanti b = (Baglanti) anahtar.attachment();
+        yanit.setLength(0);
+        ByteBuffer g = b.giris;
+        byte[] dizi = g.array();
+        int bas = 0;
+        for (int i = 0; i < g.position() && b.listeKalan == 0; i++) {
+            if (dizi[i] != '\n') continue;
+            int son = i > bas && dizi[i - 1] == '\r' ? i - 1 : i;
+            komut(new String(dizi, bas, son - bas, StandardCharsets.UTF_8).trim(), b);
+            bas = i + 1;
+            if (b.kapanacak) break;
+            if (b.listeKalan > 0) {
+                // Önceki yanıtlar listeden önce çıkar; sığan sayfalar hemen eklenir
+                ekle(b, yanit);
+                yanit.setLength(0);
+                listeDoldur(b);
+            }
+        }
+        // Tamamlanmamış satır tamponun başına kaydırılır
+        g.flip().position(bas);
+        g.compact();
+        if (!g.hasRemaining() && b.listeKalan == 0) {
+            yanit.append("ERR Satır çok uzun\n");
+            b.kapanacak = true;
+        }
+
+        if (yanit.length() > 0) ekle(b, yanit);
+        yaz(anahtar);
+    }
+
+    private void yaz(SelectionKey anahtar) throws IOException {
+        Baglanti b = (Baglanti) anahtar.attachment();
+        SocketChannel kanal = (SocketChannel) anahtar.channel();
+        b.cikis.flip();
+        kanal.write(b.cikis);
+        b.cikis.compact();
+        if (b.listeKalan > 0) {
+            listeDoldur(b);
+            // Liste bitti: beklettiği satırlar işlenir (isle yeniden yazar)
+            if (b.listeKalan == 0) {
+                isle(anahtar);
+                return;
+            }
+        }
+
+        boolean bekleyen = b.cikis.position() > 0;
+        if (!bekleyen && b.kapanacak) {
+            baglantiyiKapat(anahtar);
+            return;
+        }
+        int ilgi = bekleyen ? SelectionKey.OP_WRITE : 0;
+        // Geri basınç: istemci okumuyorsa ya da liste sürüyorsa yeni istek alınmaz
+        if (b.cikis.position() < CIKIS_SINIRI && b.listeKalan == 0 && !b.kapanacak) ilgi |= SelectionKey.OP_READ;
+        anahtar.interestOps(ilgi);
+    }
+
+    // Çıkış sınırının altındayken sonraki liste sayfalarını ekler
+    private void listeDoldur(Baglanti b) {
+        while (b.listeKalan > 0 && b.cikis.position() < CIKIS_SINIRI) {
+            EnvanterSorgusu.Sayfa s = sorgu.sayfa(envanter, b.imlec);
+            int adet = Math.min(s.nesneler.size(), b.listeKalan);
+            sayfaMetni.setLength(0);
+            for (int i = 0; i < adet; i++) {
+                s.nesneler.get(i).durumYaz(sayfaMetni);
+                sayfaMetni.append('\n');
+            }
+            ekle(b, sayfaMetni);
+            b.listeKalan = s.sonraki == null ? 0 : b.listeKalan - adet;
+            b.imlec = b.listeKalan == 0 ? null : s.sonraki;
+        }
+    }
+
+    // Yanıt ara String/byte[] oluşturmadan UTF-8 olarak çıkış tamponuna kodlanır
+    private static void ekle(Baglanti b, CharSequence metin) {
+        int uzunluk = metin.length();
+        // Tampon kodlanmış uzunluk kadar büyütülür; çıkış sınırının üstüne en çok
+        // bir yanıt (ya da bir liste sayfası) taşar
+        int bayt = utf8Uzunlugu(metin);
+        if (b.cikis.remaining() < bayt) {
+            int yeni = Math.max(Math.min(b.cikis.capacity() * 2, CIKIS_SINIRI), b.cikis.position() + bayt);
+            ByteBuffer buyuk = ByteBuffer.allocate(yeni);
+            b.cikis.flip();
+            buyuk.put(b.cikis);
+            b.cikis = buyuk;
+        }
+        ByteBuffer c = b.cikis;
+        for (int i = 0; i < uzunluk; i++) {
+            char k = metin.charAt(i);
+            if (k < 0x80) {
+                c.put((byte) k);
+            } else if (k < 0x800) {
+                c.put((byte) (0xC0 | k >> 6)).put((byte) (0x80 | k & 0x3F));
+            } else if (Character.isHighSurrogate(k) && i + 1 < uzunluk && Character.isLowSurrogate(metin.charAt(i + 1))) {
+                int kod = Character.toCodePoint(k, metin.charAt(++i));
+                c.put((byte) (0xF0 | kod >> 18)).put((byte) (0x80 | kod >> 12 & 0x3F))
+                        .put((byte) (0x80 | kod >> 6 & 0x3F)).put((byte) (0x80 | kod & 0x3F));
+            } else if (Character.isSurrogate(k)) {
+                c.put((byte) '?');
+            } else {
+                c.put((byte) (0xE0 | k >> 12)).put((byte) (0x80 | k >> 6 & 0x3F)).put((byte) (0x80 | k & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Uzunlugu(CharSequence metin) {
+        int bayt = 0;
+        for (int i = 0, n = metin.length(); i < n; i++) {
+            char k = metin.charAt(i);
+            if (k < 0x80) {
+                bayt++;
+            } else if (k < 0x800) {
+                bayt += 2;
+            } else if (Character.isHighSurrogate(k) && i + 1 < n && Character.isLowSurrogate(metin.charAt(i + 1))) {
+                bayt += 4;
+                i++;
+            } else if (Character.isSurrogate(k)) {
+                bayt++;
+            } else {
+                bayt += 3;
+            }
+        }
+        return bayt;
+    }
+
+    private void baglantiyiKapat(SelectionKey anahtar) {
+        anahtar.cancel();
+        try {
+            anahtar.channel().close();
+        } catch (IOException e) {
+            // zaten kapalı
+        }
+        if (anahtar.attachment() != null) baglantiSayisi--;
+    }
+
+    // ===============================
+    // Komutlar
+    // ===============================
+    private void komut(String s, Baglanti b) {
+        if (s.isEmpty()) return;
+        istekSayisi++;
+        int bosluk = s.indexOf(' ');
+        String ad = (bosluk < 0 ? s : s.substring(0, bosluk)).toUpperCase(Locale.ROOT);
+        String arguman = bosluk < 0 ? "" : s.substring(bosluk + 1).trim();
+
+        try {
+            switch (ad) {
+                case "ADD" -> ekle(arguman.isEmpty() ? 1 : Integer.parseInt(arguman));
+                case "ANALYZE" -> analizEt(arguman);
+                case "COOL" -> sogut(arguman);
+                case "LIST" -> listele(b);
+                case "STATS" -> istatistik();
+                case "PING" -> yanit.append("OK\n");
+                case "QUIT" -> b.kapanacak = true;
+                default -> hata("Bilinmeyen komut: " + ad);
+            }
+            Main.zincirYay();
+        } catch (RuntimeException e) {
+            hata(e.getMessage());
+        }
+    }
+
+    private void ekle(int adet) {
+        if (adet < 1 || adet > MAKS_EKLEME) {
+            throw new IllegalArgumentException("Geçersiz adet: " + adet + " (1-" + MAKS_EKLEME + ")");
+        }
+        KuantumNesnesi[] nesneler = Main.uretici().nesneler(adet);
+        List<KuantumNesnesi> reddedilen = Main.topluEkle(Arrays.asList(nesneler));
+        if (!reddedilen.isEmpty()) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + reddedilen.get(0).getId());
+        }
+        yanit.append("OK ").append(nesneler[0].getId()).append(' ').append(adet).append('\n');
+    }
+
+    private void analizEt(String id) {
+        KuantumNesnesi n = Main.bul(id);
+        if (n == null) {
+            hata("Nesne bulunamadı: " + id);
+            return;
+        }
+        AnalizSonucu sonuc = envanter.sahibinde(n, Metrikler.sistem()::analiz);
+        yanit.append("OK ").append(sonuc).append(' ').append(n.getStabilite()).append('\n');
+    }
+
+    private void sogut(String id) {
+        KuantumNesnesi n = Main.bul(id);
+        if (n == null) {
+            hata("Nesne bulunamadı: " + id);
+        } else if (envanter.sahibinde(n, Metrikler.sistem()::sogut)) {
+            yanit.append("OK ").append(n.getStabilite()).append('\n');
+        } else {
+            hata("Bu nesne soğutulamaz: " + id);
+        }
+    }
+
+    // Satırlar isle/yaz tarafından sayfa sayfa eklenir
+    private void listele(Baglanti b) {
+        int n = envanter.boyut();
+        yanit.append("OK ").append(n).append('\n');
+        b.listeKalan = n;
+        b.imlec = null;
+    }
+
+    private void istatistik() {
+        yanit.append("OK toplam=").append(envanter.boyut())
+                .append(" kritik=").append(envanter.kritikSayisi())
+                .append(" riskli=").append(envanter.riskIndeksi().esikAltindaSayisi((int) KuantumNesnesi.UYARI_ESIGI))
+                .append(" baglanti=").append(baglantiSayisi)
+                .append(" istek=").append(istekSayisi)
+                .append(" dusen_log=").append(LogHatti.sistem().dusenSayisi())
+                .append('\n');
+    }
+
+    private void hata(String mesaj) {
+        yanit.append("ERR ").append(mesaj).append('\n');
+    }
+
+    // Herhangi bir iş parçacığından çağrılabilir
+    @Override
+    public void close() {
+        calisiyor = false;
+        secici.wakeup();
+    }
+}
@@ -0,0 +1,38 @@
+package cli;
+
+import ortak.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+// ===============================
+// Kritik Uyarıcı (değişiklik akışı abonesi)
+// ===============================
+// Envanteri taramaz; yalnızca gelen olaylara bakar. Kritik bir nesne uyarı
+// eşiğinin altına indiğinde bir kez uyarır, eşiğin üstüne çıkana kadar tekrar
+// uyarmaz. Çöküşler her zaman raporlanır. Yalnızca abone iş parçacığında çalışır.
+class KritikUyarici implements DegisiklikAkisi.Abone {
+
+    private final Set<KuantumNesnesi> esikAltinda = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public void olay(DegisiklikAkisi.Tur tur, KuantumNesnesi nesne, double stabilite) {
+        switch (tur) {
+            case STABILITE, SOGUTULDU -> {
+                if (!(nesne instanceof IKritik)) return;
+                if (stabilite >= KuantumNesnesi.UYARI_ESIGI) {
+                    esikAltinda.remove(nesne);
+                } else if (stabilite > 0 && esikAltinda.add(nesne)) {
+                    LogHatti.sistem().uyari(nesne.getId() + " kritik stabilite seviyesinde: " + stabilite);
+                }
+            }
+            case COKTU -> {
+                esikAltinda.remove(nesne);
+                LogHatti.sistem().hata("KUANTUM ÇÖKÜŞÜ: " + nesne.getId());
+            }
+            case CIKARILDI -> esikAltinda.remove(nesne);
+            case EKLENDI -> { }
+        }
+    }
+}
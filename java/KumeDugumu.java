@@ -0,0 +1,184 @@
+package cli;
+
+import ortak.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// ===============================
+// Küme Düğümü
+// ===============================
+// Sahip olduğu bölümlerin nesnelerini tutar; her bölüm ayrı bir EnvanterDeposu'dur,
+// böylece bölüm tek parça halinde devredilebilir. Tüm istekler düğümün tek iş
+// parçacığında sırayla işlenir (ParcaliEnvanter'in parçası gibi), kilit yoktur.
+// Sahip olunmayan bölüme gelen istek TASINDI ile yanıtlanır.
+class KumeDugumu implements AutoCloseable {
+
+    private static final Comparator<KuantumNesnesi> RISK = Comparator
+            .comparingDouble(KuantumNesnesi::getStabilite)
+            .thenComparingInt(n -> -n.getTehlikeSeviyesi())
+            .thenComparingLong(KuantumNesnesi::getAnahtar);
+
+    private final int no;
+    // Bölüm no -> depo; sahip olunmayan bölümler null
+    private final EnvanterDeposu[] bolumler;
+    private final ExecutorService yurutucu;
+
+    KumeDugumu(int no, int bolumSayisi) {
+        this.no = no;
+        this.bolumler = new EnvanterDeposu[bolumSayisi];
+        this.yurutucu = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "kume-dugum-" + no);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    int no() {
+        return no;
+    }
+
+    // Posta kutusu: istek sıraya girer, yanıt düğüm iş parçacığında tamamlanır.
+    // Beklenmeyen istisnalar HATA yanıtına çevrilir.
+    CompletableFuture<KumeYaniti> al(KumeIstegi istek) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return isle(istek);
+            } catch (RuntimeException e) {
+                return KumeYaniti.hata(e.getMessage());
+            }
+        }, yurutucu);
+    }
+
+    private KumeYaniti isle(KumeIstegi istek) {
+        return switch (istek.tur) {
+            case EKLE -> ekle(istek);
+            case CIKAR, BUL, ANALIZ, SOGUT -> nesneIslemi(istek);
+            case LISTE -> listele(istek.anahtar, istek.sayi);
+            case ISTATISTIK -> istatistik();
+            case RISKLI -> enRiskliler(istek.sayi);
+            case DEVRET -> devret(istek.bolum);
+            case DEVRAL -> devral(istek.bolum, istek.kayitlar);
+        };
+    }
+
+    private KumeYaniti ekle(KumeIstegi istek) {
+        EnvanterDeposu depo = bolumler[istek.bolum];
+        if (depo == null) return KumeYaniti.TASINDI;
+        try {
+            depo.ekle(istek.kayitlar[0].nesne());
+        } catch (IllegalArgumentException e) {
+            return KumeYaniti.hata(e.getMessage());
+        }
+        return KumeYaniti.TAMAM;
+    }
+
+    private KumeYaniti nesneIslemi(KumeIstegi istek) {
+        EnvanterDeposu depo = bolumler[istek.bolum];
+        if (depo == null) return KumeYaniti.TASINDI;
+        KuantumNesnesi n = istek.tur == KumeIstegi.Tur.CIKAR ? depo.cikar(istek.anahtar) : depo.bul(istek.anahtar);
+        if (n == null) return KumeYaniti.BULUNAMADI;
+        return switch (istek.tur) {
+            case ANALIZ -> {
+                AnalizSonucu sonuc = Metrikler.sistem().analiz(n);
+                yield KumeYaniti.analiz(sonuc, n.getStabilite());
+            }
+            case SOGUT -> Metrikler.sistem().sogut(n)
+                    ? KumeYaniti.stabilite(n.getStabilite())
+                    : KumeYaniti.hata("Bu nesne soğutulamaz: " + n.getId());
+            default -> KumeYaniti.kayitlar(NesneKaydi.ondan(n));
+        };
+    }
+
+    // Tüm bölümlerden, "sonrakinden" büyük ilk "adet" anahtar, sırasıyla
+    private KumeYaniti listele(long sonrakinden, int adet) {
+        EnvanterSorgusu sorgu = new EnvanterSorgusu(adet);
+        EnvanterSorgusu.Sayfa sayfa = sorgu.sayfa(this::tumNesneler,
+                sonrakinden < 0 ? null : EnvanterSorgusu.Imlec.anahtardan(sonrakinden));
+        NesneKaydi[] kayitlar = new NesneKaydi[sayfa.nesneler.size()];
+        for (int i = 0; i < kayitlar.length; i++) kayitlar[i] = NesneKaydi.ondan(sayfa.nesneler.get(i));
+        return KumeYaniti.kayitlar(kayitlar);
+    }
+
+    // boyut, kritik, riskli, ardından %10'luk stabilite dağılımı
+    private KumeYaniti istatistik() {
+        int[] sayilar = new int[13];
+        for (EnvanterDeposu depo : bolumler) {
+            if (depo == null) continue;
+            sayilar[0] += depo.boyut();
+            sayilar[1] += depo.kritikSayisi();
+            sayilar[2] += depo.riskIndeksi().esikAltindaSayisi((int) KuantumNesnesi.UYARI_ESIGI);
+            int[] dagilim = depo.riskIndeksi().dagilim(10);
+            for (int i = 0; i < dagilim.length; i++) sayilar[3 + i] += dagilim[i];
+        }
+        return KumeYaniti.sayilar(sayilar);
+    }
+
+    private KumeYaniti enRiskliler(int k) {
+        List<KuantumNesnesi> adaylar = new ArrayList<>();
+        for (EnvanterDeposu depo : bolumler) {
+            if (depo != null) adaylar.addAll(depo.riskIndeksi().enRiskliKritikler(k));
+        }
+        adaylar.sort(RISK);
+        NesneKaydi[] kayitlar = new NesneKaydi[Math.min(k, adaylar.size())];
+        for (int i = 0; i < kayitlar.length; i++) kayitlar[i] = NesneKaydi.ondan(adaylar.get(i));
+        return KumeYaniti.kayitlar(kayitlar);
+    }
+
+    // Bölümün o anki hali kopyalanır ve bırakılır; bundan sonraki istekler TASINDI alır
+    private KumeYaniti devret(int bolum) {
+        EnvanterDeposu depo = bolumler[bolum];
+        if (depo == null) return KumeYaniti.TASINDI;
+        NesneKaydi[] kayitlar = new NesneKaydi[depo.boyut()];
+        int i = 0;
+        for (KuantumNesnesi n : depo) {
+            kayitlar[i++] = NesneKaydi.ondan(n);
+            n.setDinleyici(null);
+        }
+        bolumler[bolum] = null;
+        return KumeYaniti.kayitlar(kayitlar);
+    }
+
+    private KumeYaniti devral(int bolum, NesneKaydi[] kayitlar) {
+        if (bolumler[bolum] != null) return KumeYaniti.hata("Bölüm zaten bu düğümde: " + bolum);
+        EnvanterDeposu depo = new EnvanterDeposu();
+        for (NesneKaydi k : kayitlar) depo.ekle(k.nesne());
+        bolumler[bolum] = depo;
+        return KumeYaniti.TAMAM;
+    }
+
+    // Sahip olunan bölümlerin nesneleri, bölüm sırasıyla
+    private Iterator<KuantumNesnesi> tumNesneler() {
+        return new Iterator<>() {
+            private int bolum = -1;
+            private Iterator<KuantumNesnesi> simdiki = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!simdiki.hasNext()) {
+                    if (++bolum >= bolumler.length) return false;
+                    if (bolumler[bolum] != null) simdiki = bolumler[bolum].iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public KuantumNesnesi next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return simdiki.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        yurutucu.shutdown();
+    }
+}
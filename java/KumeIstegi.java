@@ -0,0 +1,58 @@
+package cli;
+
+// ===============================
+// Küme İsteği
+// ===============================
+// Koordinatörden düğüme giden mesaj; tür hangi alanların dolu olduğunu belirler
+final class KumeIstegi {
+
+    enum Tur {
+        EKLE,        // kayitlar[0]
+        CIKAR,       // anahtar
+        BUL,         // anahtar
+        ANALIZ,      // anahtar
+        SOGUT,       // anahtar
+        LISTE,       // anahtardan sonraki "sayi" kadar kayıt, anahtar sırasıyla
+        ISTATISTIK,
+        RISKLI,      // en riskli "sayi" kritik nesne
+        DEVRET,      // bolum: düğüm bölümü bırakır, kayıtlarını döner
+        DEVRAL       // bolum, kayitlar: düğüm bölümün sahibi olur
+    }
+
+    final Tur tur;
+    final int bolum;
+    final long anahtar;
+    final int sayi;
+    final NesneKaydi[] kayitlar;
+
+    private KumeIstegi(Tur tur, int bolum, long anahtar, int sayi, NesneKaydi[] kayitlar) {
+        this.tur = tur;
+        this.bolum = bolum;
+        this.anahtar = anahtar;
+        this.sayi = sayi;
+        this.kayitlar = kayitlar;
+    }
+
+    static KumeIstegi ekle(int bolum, NesneKaydi kayit) {
+        return new KumeIstegi(Tur.EKLE, bolum, kayit.anahtar, 0, new NesneKaydi[]{kayit});
+    }
+
+    // CIKAR, BUL, ANALIZ, SOGUT
+    static KumeIstegi nesne(Tur tur, int bolum, long anahtar) {
+        return new KumeIstegi(tur, bolum, anahtar, 0, null);
+    }
+
+    // Tüm düğümlere: LISTE (anahtar = önceki sayfanın son anahtarı, ilk sayfa için -1),
+    // ISTATISTIK, RISKLI
+    static KumeIstegi tumu(Tur tur, long anahtar, int sayi) {
+        return new KumeIstegi(tur, -1, anahtar, sayi, null);
+    }
+
+    static KumeIstegi devret(int bolum) {
+        return new KumeIstegi(Tur.DEVRET, bolum, 0, 0, null);
+    }
+
+    static KumeIstegi devral(int bolum, NesneKaydi[] kayitlar) {
+        return new KumeIstegi(Tur.DEVRAL, bolum, 0, kayitlar.length, kayitlar);
+    }
+}
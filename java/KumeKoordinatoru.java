@@ -0,0 +1,321 @@
+package cli;
+
+import ortak.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// ===============================
+// Küme Koordinatörü
+// ===============================
+// Anahtar uzayı sabit sayıda bölüme ayrılır (anahtarın karışımı mod bölüm
+// sayısı); her bölümün tek sahibi bir düğümdür. Ekleme, analiz, soğutma ve
+// arama sahip düğüme yönlendirilir; listeleme, istatistik ve en riskliler tüm
+// düğümlere gönderilip birleştirilir.
+//
+// Düğüm katıldığında bölümler arka planda, birer birer taşınır: eski sahip
+// bölümü devreder (o anki hali kopyalanır, düğüm bölümü bırakır), yeni sahip
+// devralır, sonra yönlendirme tablosu güncellenir. Taşınan bölüme o arada gelen
+// istek TASINDI alır ve taşıma bitince yeni sahibe tekrar gönderilir; diğer
+// bölümler hiç beklemez. Yeni sahip devralamazsa kayıtlar eski sahibe geri
+// verilir ve bölüm yerinde kalır; geri verme de başarısız olursa bölüm kayıp
+// sayılır, istekleri IllegalStateException alır. Başarısız taşıma planın
+// kalanını durdurmaz; hatalar dengeleme işinin sonucunda toplanır. Zaman aşımı
+// ele alınmaz.
+//
+// Küme modu şimdilik yalnızca kütüphane olarak kullanılır (deneme/KumeDenemesi);
+// CLI menüsü Envanter arayüzü üzerinden çalışır, koordinatöre bağlı değildir.
+// Hiç düğüm katılmadan gelen istek IllegalStateException fırlatır.
+class KumeKoordinatoru implements AutoCloseable {
+
+    static final int VARSAYILAN_BOLUM = 64;
+    private static final long KARISTIRICI = 0x9E3779B97F4A7C15L;
+
+    // Tüm düğümlerden toplanan sayılar
+    static final class Istatistik {
+        final int toplam;
+        final int kritik;
+        final int riskli;
+        // %10'luk stabilite aralıkları
+        final int[] dagilim;
+
+        private Istatistik(int[] sayilar) {
+            this.toplam = sayilar[0];
+            this.kritik = sayilar[1];
+            this.riskli = sayilar[2];
+            this.dagilim = Arrays.copyOfRange(sayilar, 3, sayilar.length);
+        }
+
+        @Override
+        public String toString() {
+            return "toplam=" + toplam + " kritik=" + kritik + " riskli=" + riskli + " dagilim=" + Arrays.toString(dagilim);
+        }
+    }
+
+    private final KumeTasimasi tasima;
+    private final int bolumSayisi;
+    // Bölüm -> sahip düğüm; her değişiklikte yeni dizi yayınlanır
+    private volatile int[] sahipler;
+    private final List<Integer> dugumler = new ArrayList<>();
+    // Taşınmakta olan bölümler; taşıma bitince tamamlanır
+    private final Map<Integer, CompletableFuture<Void>> tasinanlar = new ConcurrentHashMap<>();
+    // Devredilip hiçbir düğüme geri yerleştirilemeyen bölümler
+    private final Set<Integer> kayipBolumler = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dengeleyici = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "kume-dengeleyici");
+        t.setDaemon(true);
+        return t;
+    });
+    private final LongAdder yonlendirmeler = new LongAdder();
+
+    KumeKoordinatoru(KumeTasimasi tasima, int bolumSayisi) {
+        if (bolumSayisi < 1) throw new IllegalArgumentException("Geçersiz bölüm sayısı: " + bolumSayisi);
+        this.tasima = tasima;
+        this.bolumSayisi = bolumSayisi;
+    }
+
+    int bolum(long anahtar) {
+        return (int) (((anahtar * KARISTIRICI) >>> 32) % bolumSayisi);
+    }
+
+    // ===============================
+    // Üyelik ve dengeleme
+    // ===============================
+
+    // İlk düğüm tüm bölümleri boş olarak alır. Sonrakiler için bölümler en yüklü
+    // düğümlerden yeni düğüme taşınır; dönen iş taşıma bitince tamamlanır.
+    // Dengeleme sürerken koordinatör kullanılmaya devam edilebilir.
+    synchronized CompletableFuture<Void> dugumEkle(int dugum) {
+        if (dugumler.contains(dugum)) throw new IllegalArgumentException("Düğüm zaten kümede: " + dugum);
+        dugumler.add(dugum);
+        if (sahipler == null) {
+            for (int b = 0; b < bolumSayisi; b++) bekle(tasima.gonder(dugum, KumeIstegi.devral(b, new NesneKaydi[0])));
+            int[] ilk = new int[bolumSayisi];
+            Arrays.fill(ilk, dugum);
+            sahipler = ilk;
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Integer> plan = dengelemePlani(dugum);
+        return CompletableFuture.runAsync(() -> {
+            RuntimeException hata = null;
+            for (int b : plan) {
+                try {
+                    tasi(b, dugum);
+                } catch (RuntimeException e) {
+                    if (hata == null) hata = e;
+                    else hata.addSuppressed(e);
+                }
+            }
+            if (hata != null) throw hata;
+        }, dengeleyici);
+    }
+
+    // Yeni düğüme verilecek bölümler: her düğüm bölüm/düğüm sayısına inene kadar
+    // en çok bölümü olandan alınır
+    private List<Integer> dengelemePlani(int yeni) {
+        int[] tablo = sahipler;
+        Map<Integer, List<Integer>> dugumBolumleri = new HashMap<>();
+        for (int b = 0; b < tablo.length; b++) dugumBolumleri.computeIfAbsent(tablo[b], d -> new ArrayList<>()).add(b);
+
+        List<Integer> plan = new ArrayList<>();
+        int hedef = bolumSayisi / dugumler.size();
+        while (plan.size() < hedef) {
+            List<Integer> enYuklu = null;
+            for (List<Integer> l : dugumBolumleri.values()) {
+                if (enYuklu == null || l.size() > enYuklu.size()) enYuklu = l;
+            }
+            if (enYuklu == null || enYuklu.size() <= hedef) break;
+            plan.add(enYuklu.remove(enYuklu.size() - 1));
+        }
+        return plan;
+    }
+
+    // Yalnızca dengeleyici iş parçacığında
+    private void tasi(int bolum, int yeni) {
+        int eski = sahipler[bolum];
+        if (eski == yeni) return;
+        CompletableFuture<Void> bitti = new CompletableFuture<>();
+        tasinanlar.put(bolum, bitti);
+        try {
+            KumeYaniti devredilen = durumKontrol(bekle(tasima.gonder(eski, KumeIstegi.devret(bolum))));
+            try {
+                durumKontrol(bekle(tasima.gonder(yeni, KumeIstegi.devral(bolum, devredilen.kayitlar))));
+            } catch (RuntimeException e) {
+                try {
+                    durumKontrol(bekle(tasima.gonder(eski, KumeIstegi.devral(bolum, devredilen.kayitlar))));
+                } catch (RuntimeException geriVerme) {
+                    kayipBolumler.add(bolum);
+                    e.addSuppressed(geriVerme);
+                }
+                throw e;
+            }
+            int[] tablo = sahipler.clone();
+            tablo[bolum] = yeni;
+            sahipler = tablo;
+        } finally {
+            tasinanlar.remove(bolum);
+            bitti.complete(null);
+        }
+    }
+
+    // Düğüm başına bölüm sayısı
+    synchronized Map<Integer, Integer> bolumDagilimi() {
+        Map<Integer, Integer> sonuc = new TreeMap<>();
+        if (sahipler == null) return sonuc;
+        for (int d : dugumler) sonuc.put(d, 0);
+        for (int d : sahipler) sonuc.merge(d, 1, Integer::sum);
+        return sonuc;
+    }
+
+    // Taşıma sırasında yeniden yönlendirilen istek sayısı
+    long yonlendirmeSayisi() {
+        return yonlendirmeler.sum();
+    }
+
+    // ===============================
+    // Nesne işlemleri (sahip düğümde)
+    // ===============================
+
+    // Aynı ID ile ikinci ekleme IllegalArgumentException fırlatır
+    void ekle(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        durumKontrol(yonlendir(bolum(anahtar), KumeIstegi.ekle(bolum(anahtar), NesneKaydi.ondan(nesne))));
+    }
+
+    NesneKaydi bul(long anahtar) {
+        return tekKayit(nesneIstegi(KumeIstegi.Tur.BUL, anahtar));
+    }
+
+    NesneKaydi cikar(long anahtar) {
+        return tekKayit(nesneIstegi(KumeIstegi.Tur.CIKAR, anahtar));
+    }
+
+    // Bulunamazsa null
+    AnalizSonucu analizEt(long anahtar) {
+        KumeYaniti y = nesneIstegi(KumeIstegi.Tur.ANALIZ, anahtar);
+        return y.durum == KumeYaniti.Durum.BULUNAMADI ? null : durumKontrol(y).sonuc;
+    }
+
+    // Yeni stabilite; bulunamazsa NaN, kritik değilse IllegalArgumentException
+    double sogut(long anahtar) {
+        KumeYaniti y = nesneIstegi(KumeIstegi.Tur.SOGUT, anahtar);
+        return y.durum == KumeYaniti.Durum.BULUNAMADI ? Double.NaN : durumKontrol(y).stabilite;
+    }
+
+    private KumeYaniti nesneIstegi(KumeIstegi.Tur tur, long anahtar) {
+        int b = bolum(anahtar);
+        return yonlendir(b, KumeIstegi.nesne(tur, b, anahtar));
+    }
+
+    // Sahibe gönderir; bölüm o anda taşınıyorsa taşıma bitince (yeni ya da geri
+    // verilen) sahibe tekrar. Taşıma yokken tablo değişmeden ikinci kez TASINDI
+    // gelirse bölümün sahibi yoktur; beklenmez, hata fırlatılır.
+    private KumeYaniti yonlendir(int bolum, KumeIstegi istek) {
+        int[] onceki = null;
+        while (true) {
+            int[] tablo = sahipler;
+            if (tablo == null) throw new IllegalStateException("Kümede düğüm yok");
+            if (kayipBolumler.contains(bolum)) throw new IllegalStateException("Bölüm kayıp: " + bolum);
+            KumeYaniti y = bekle(tasima.gonder(tablo[bolum], istek));
+            if (y.durum != KumeYaniti.Durum.TASINDI) return y;
+            yonlendirmeler.increment();
+            CompletableFuture<Void> tasiniyor = tasinanlar.get(bolum);
+            if (tasiniyor != null) {
+                tasiniyor.join();
+                onceki = null;
+            } else if (tablo == onceki) {
+                throw new IllegalStateException("Bölümün sahibi yok: " + bolum);
+            } else {
+                // Taşıma yanıtla bu okuma arasında bitmiş olabilir: bir kez daha
+                onceki = tablo;
+            }
+        }
+    }
+
+    // ===============================
+    // Dağıt / topla
+    // ===============================
+
+    // Anahtar sırasıyla "sonrakinden" sonraki "adet" kayıt; ilk sayfa için -1.
+    // Dönen liste adet'ten kısaysa son sayfadır.
+    List<NesneKaydi> listele(long sonrakinden, int adet) {
+        List<NesneKaydi> adaylar = new ArrayList<>();
+        for (KumeYaniti y : herDugumde(KumeIstegi.tumu(KumeIstegi.Tur.LISTE, sonrakinden, adet))) {
+            Collections.addAll(adaylar, y.kayitlar);
+        }
+        adaylar.sort(Comparator.comparingLong(k -> k.anahtar));
+        return adaylar.size() > adet ? new ArrayList<>(adaylar.subList(0, adet)) : adaylar;
+    }
+
+    Istatistik istatistik() {
+        int[] toplam = null;
+        for (KumeYaniti y : herDugumde(KumeIstegi.tumu(KumeIstegi.Tur.ISTATISTIK, 0, 0))) {
+            if (toplam == null) {
+                toplam = y.sayilar.clone();
+            } else {
+                for (int i = 0; i < toplam.length; i++) toplam[i] += y.sayilar[i];
+            }
+        }
+        return new Istatistik(toplam);
+    }
+
+    // En düşük stabiliteli k kritik nesne, en riskliden başlayarak
+    List<NesneKaydi> enRiskliKritikler(int k) {
+        List<NesneKaydi> adaylar = new ArrayList<>();
+        for (KumeYaniti y : herDugumde(KumeIstegi.tumu(KumeIstegi.Tur.RISKLI, 0, k))) {
+            Collections.addAll(adaylar, y.kayitlar);
+        }
+        adaylar.sort(Comparator.comparingDouble((NesneKaydi r) -> r.stabilite)
+                .thenComparingInt(r -> -r.tehlike)
+                .thenComparingLong(r -> r.anahtar));
+        return adaylar.size() > k ? new ArrayList<>(adaylar.subList(0, k)) : adaylar;
+    }
+
+    // Taşıma sırasında bölüm iki düğümde birden sayılmaz: devret ve devral
+    // düğümlerin kendi sırasında işlenir, toplama her düğümün o anki halini görür.
+    // Taşınan bölümün nesneleri o an yoldaysa bu yanıtta eksik olabilir.
+    private List<KumeYaniti> herDugumde(KumeIstegi istek) {
+        List<Integer> hedefler;
+        synchronized (this) {
+            hedefler = new ArrayList<>(dugumler);
+        }
+        if (hedefler.isEmpty()) throw new IllegalStateException("Kümede düğüm yok");
+        List<CompletableFuture<KumeYaniti>> bekleyen = new ArrayList<>(hedefler.size());
+        for (int d : hedefler) bekleyen.add(tasima.gonder(d, istek));
+        List<KumeYaniti> sonuc = new ArrayList<>(hedefler.size());
+        for (CompletableFuture<KumeYaniti> f : bekleyen) sonuc.add(durumKontrol(bekle(f)));
+        return sonuc;
+    }
+
+    @Override
+    public void close() {
+        dengeleyici.shutdown();
+    }
+
+    // ===============================
+    // Yardımcılar
+    // ===============================
+    private static NesneKaydi tekKayit(KumeYaniti y) {
+        return y.durum == KumeYaniti.Durum.BULUNAMADI ? null : durumKontrol(y).kayitlar[0];
+    }
+
+    private static KumeYaniti durumKontrol(KumeYaniti y) {
+        if (y.durum == KumeYaniti.Durum.HATA) throw new IllegalArgumentException(y.hata);
+        if (y.durum != KumeYaniti.Durum.TAMAM) throw new IllegalStateException("Beklenmeyen yanıt: " + y.durum);
+        return y;
+    }
+
+    private static KumeYaniti bekle(CompletableFuture<KumeYaniti> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package cli;
+
+import java.util.concurrent.CompletableFuture;
+
+// ===============================
+// Küme Taşıması
+// ===============================
+// Koordinatörün düğümlere istek gönderdiği katman. İstek ve yanıtlar yalnızca
+// değer taşır (NesneKaydi, sayılar); düğümler arasında nesne referansı
+// paylaşılmaz, bu yüzden aynı mesajlar soket üzerinden de taşınabilir.
+interface KumeTasimasi {
+
+    // Yanıt düğümün iş parçacığında tamamlanır; düğüm bilinmiyorsa istisnayla biter
+    CompletableFuture<KumeYaniti> gonder(int dugum, KumeIstegi istek);
+}
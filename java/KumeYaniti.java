@@ -0,0 +1,59 @@
+package cli;
+
+import ortak.*;
+
+// ===============================
+// Küme Yanıtı
+// ===============================
+// Düğümden koordinatöre dönen mesaj
+final class KumeYaniti {
+
+    enum Durum {
+        TAMAM,
+        BULUNAMADI,
+        // Bölüm bu düğümde değil (taşındı ya da hiç sahip olunmadı); koordinatör yeniden yönlendirir
+        TASINDI,
+        HATA
+    }
+
+    static final KumeYaniti TAMAM = new KumeYaniti(Durum.TAMAM, null, 0, null, null, null);
+    static final KumeYaniti BULUNAMADI = new KumeYaniti(Durum.BULUNAMADI, null, 0, null, null, null);
+    static final KumeYaniti TASINDI = new KumeYaniti(Durum.TASINDI, null, 0, null, null, null);
+
+    final Durum durum;
+    final AnalizSonucu sonuc;
+    final double stabilite;
+    final int[] sayilar;
+    final NesneKaydi[] kayitlar;
+    final String hata;
+
+    private KumeYaniti(Durum durum, AnalizSonucu sonuc, double stabilite, int[] sayilar, NesneKaydi[] kayitlar,
+                       String hata) {
+        this.durum = durum;
+        this.sonuc = sonuc;
+        this.stabilite = stabilite;
+        this.sayilar = sayilar;
+        this.kayitlar = kayitlar;
+        this.hata = hata;
+    }
+
+    static KumeYaniti analiz(AnalizSonucu sonuc, double stabilite) {
+        return new KumeYaniti(Durum.TAMAM, sonuc, stabilite, null, null, null);
+    }
+
+    static KumeYaniti stabilite(double stabilite) {
+        return new KumeYaniti(Durum.TAMAM, null, stabilite, null, null, null);
+    }
+
+    static KumeYaniti sayilar(int... sayilar) {
+        return new KumeYaniti(Durum.TAMAM, null, 0, sayilar, null, null);
+    }
+
+    static KumeYaniti kayitlar(NesneKaydi... kayitlar) {
+        return new KumeYaniti(Durum.TAMAM, null, 0, null, kayitlar, null);
+    }
+
+    static KumeYaniti hata(String mesaj) {
+        return new KumeYaniti(Durum.HATA, null, 0, null, null, mesaj);
+    }
+}
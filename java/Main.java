@@ -1,146 +1,322 @@
+package cli;
+
+import ortak.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Predicate;
 
 // ===============================
-// Custom Exception
+// MAIN CLASS
 // ===============================
-class KuantumCokusuException extends Exception {
-    public KuantumCokusuException(String id) {
-        super("KUANTUM ÇÖKÜŞÜ! Nesne patladı: " + id);
-    }
-}
+public class Main {
 
-// ===============================
-// Interface
-// ===============================
-interface IKritik {
-    void acilDurumSogutmasi();
-}
+    static Scanner scanner = new Scanner(System.in);
+    static Envanter envanter = new EnvanterDeposu();
+    static Random rnd = new Random();
+    // --tohum verilirse rnd ve toplu üretim tekrarlanabilir olur
+    static long tohum = 42;
+    private static IsYukuUretici uretici;
+    // Tek nesne eklemesi ve toplu üretim aynı üreteçten anahtar alır, ID'ler çakışmaz
+    private static KimlikUreteci kimlikler;
+    // --dosya verildiğinde envanterin kalıcı kopyası
+    static KaliciEnvanter dosya;
+    // --gunluk verildiğinde değişikliklerin önceden yazma günlüğü
+    static IslemGunlugu gunluk;
+    static final long GUNLUK_FSYNC_MS = 10;
+    // --log verildiğinde: 10 MB'ta döndürülür, 5 eski dosya tutulur
+    static final long LOG_DOSYA_BAYT = 10L << 20;
+    static final int LOG_DOSYA_SAYISI = 5;
+    static final int LISTE_SAYFASI = 50;
+    // --olaylar verildiğinde envanter değişikliklerinin akışı ve aboneleri
+    static DegisiklikAkisi akis;
+    static final int OLAY_KAPASITESI = 1 << 14;
+    // --zincir verildiğinde (gerçekçi mod) çöküş programı bitirmez, komutun ardından
+    // komşulara yayılır (bkz. zincirYay)
+    static ZincirlemeCokus zincir;
 
-// ===============================
-// Abstract Class
-// ===============================
-abstract class KuantumNesnesi {
-    private String id;
-    private double stabilite;
-    private int tehlikeSeviyesi;
+    public static void main(String[] args) {
+        List<String> argumanlar = Arrays.asList(args);
+        // Betik ve sunucu modunda stdout komut çıktısıdır; log satırları araya girmez
+        if (argumanlar.contains("--betik") || argumanlar.contains("--sunucu")) {
+            LogHatti.konsolHataAkisina(true);
+        }
+        if (argumanlar.contains("--eszamanli")) {
+            envanter = new EsZamanliEnvanter();
+        }
+        // Kolon tabanlı envanter: nesneler ilkel dizilerde satırdır, görünümle verilir
+        if (argumanlar.contains("--kolon")) {
+            envanter = new KolonEnvanter();
+        }
+        // --parca N: N parçalı envanter, N verilmezse çekirdek sayısı kadar
+        int p = argumanlar.indexOf("--parca");
+        if (p >= 0) {
+            envanter = p + 1 < args.length && args[p + 1].matches("\\d+")
+                    ? new ParcaliEnvanter(Integer.parseInt(args[p + 1]))
+                    : new ParcaliEnvanter();
+        }
+        int t = argumanlar.indexOf("--tohum");
+        if (t >= 0 && t + 1 < args.length) {
+            tohum = Long.parseLong(args[t + 1]);
+            rnd = new Random(tohum);
+        }
+        try {
+            uretimAyarlari(argumanlar, args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Geçersiz üretim ayarı: " + e.getMessage());
+            return;
+        }
+        int d = argumanlar.indexOf("--dosya");
+        if (d >= 0 && d + 1 < args.length) {
+            try {
+                dosyaAc(Path.of(args[d + 1]));
+            } catch (IOException | RuntimeException e) {
+                System.out.println("Envanter dosyası açılamadı: " + e.getMessage());
+                return;
+            }
+        }
 
-    public KuantumNesnesi(String id, double stabilite, int tehlikeSeviyesi) {
-        this.id = id;
-        setStabilite(stabilite);
-        setTehlikeSeviyesi(tehlikeSeviyesi);
-    }
+        int l = argumanlar.indexOf("--log");
+        if (l >= 0 && l + 1 < args.length) {
+            try {
+                LogHatti.sistem().hedefEkle(new LogHatti.DonenDosyaHedefi(Path.of(args[l + 1]), LOG_DOSYA_BAYT, LOG_DOSYA_SAYISI));
+            } catch (IOException e) {
+                System.out.println("Log dosyası açılamadı: " + e.getMessage());
+            }
+        }
+        int g = argumanlar.indexOf("--gunluk");
+        if (g >= 0 && g + 1 < args.length) {
+            try {
+                gunlukAc(Path.of(args[g + 1]));
+            } catch (IOException | RuntimeException e) {
+                System.out.println("İşlem günlüğü açılamadı: " + e.getMessage());
+                dosyaKapat();
+                return;
+            }
+        }
 
-    public String getId() {
-        return id;
-    }
+        Metrikler.sistem().jmxKaydet(envanter);
 
-    public double getStabilite() {
-        return stabilite;
-    }
+        // Geri yüklemeden sonra açılır; aboneler yalnızca yeni değişiklikleri görür
+        if (argumanlar.contains("--olaylar")) {
+            akis = new DegisiklikAkisi(OLAY_KAPASITESI);
+            akis.abone("kritik-uyari", new KritikUyarici());
+            envanter.dinleyiciEkle(akis);
+        }
+        if (argumanlar.contains("--zincir")) {
+            zincir = new ZincirlemeCokus();
+            zincir.etkin(true);
+            zincir.bagla(envanter);
+        }
 
-    public void setStabilite(double stabilite) {
-        if (stabilite < 0) this.stabilite = 0;
-        else if (stabilite > 100) this.stabilite = 100;
-        else this.stabilite = stabilite;
+        int u = argumanlar.indexOf("--uret");
+        if (u >= 0 && u + 1 < args.length) {
+            topluUret(Integer.parseInt(args[u + 1]));
+        }
+
+        try {
+            int b = argumanlar.indexOf("--betik");
+            int s = argumanlar.indexOf("--sunucu");
+            if (b >= 0 && b + 1 < args.length) {
+                betikCalistir(args[b + 1]);
+            } else if (s >= 0 && s + 1 < args.length) {
+                sunucuCalistir(Integer.parseInt(args[s + 1]));
+            } else {
+                komutDongusu();
+            }
+        } finally {
+            if (akis != null) akis.close();
+            gunlukKapat();
+            dosyaKapat();
+            if (envanter instanceof ParcaliEnvanter parcali) parcali.close();
+            LogHatti.sistem().kapat();
+        }
     }
 
-    public int getTehlikeSeviyesi() {
-        return tehlikeSeviyesi;
+    // Komutun yol açtığı çöküşler komut bittikten sonra, komutu çalıştıran iş
+    // parçacığında yayılır; zincirin raporu loglanır
+    static void zincirYay() {
+        if (zincir == null) return;
+        ZincirlemeCokus.Rapor rapor = zincir.yay();
+        if (rapor != null) LogHatti.sistem().uyari(rapor.toString());
     }
 
-    public void setTehlikeSeviyesi(int tehlikeSeviyesi) {
-        if (tehlikeSeviyesi < 1 || tehlikeSeviyesi > 10) {
-            throw new IllegalArgumentException("Tehlike seviyesi 1-10 arası olmalıdır!");
+    // Kontrol noktası ve günlük yeniden oynatılır; sonraki her değişiklik günlüğe eklenir.
+    // --dosya da verildiyse yalnızca günlükte olan nesneler dosyaya eklenir; dosyada
+    // olanların stabilitesi oynatma sırasında dinleyiciyle zaten güncellenmiştir.
+    static void gunlukAc(Path taban) throws IOException {
+        long baslangic = System.nanoTime();
+        gunluk = IslemGunlugu.ac(taban, GUNLUK_FSYNC_MS);
+        long kayit = gunluk.yenidenOynat(envanter);
+        if (dosya != null) {
+            for (KuantumNesnesi n : envanter) {
+                if (dosya.bul(n.getAnahtar()) < 0) dosya.ekle(n);
+            }
         }
-        this.tehlikeSeviyesi = tehlikeSeviyesi;
+        envanter.dinleyiciEkle(gunluk);
+        System.out.printf("Günlükten %d kayıt yeniden oynatıldı, %d nesne (%.1f ms)%n", kayit, envanter.boyut(),
+                (System.nanoTime() - baslangic) / 1e6);
     }
 
-    protected void stabiliteKontrol() throws KuantumCokusuException {
-        if (stabilite <= 0) {
-            throw new KuantumCokusuException(id);
+    static void gunlukKapat() {
+        if (gunluk == null) return;
+        try {
+            gunluk.close();
+        } catch (IOException e) {
+            System.out.println("İşlem günlüğü kapatılamadı: " + e.getMessage());
         }
     }
 
-    public String durumBilgisi() {
-        return "ID: " + id + " | Stabilite: " + stabilite;
+    static void gunluguSikistir() {
+        if (gunluk == null || !gunluk.sikistirmaGerekli()) return;
+        try {
+            gunluk.sikistir(envanter);
+        } catch (IOException e) {
+            System.out.println("Günlük sıkıştırılamadı: " + e.getMessage());
+        }
     }
 
-    public abstract void analizEt() throws KuantumCokusuException;
-}
-
-// ===============================
-// Concrete Classes
-// ===============================
-
-// VeriPaketi (IKritik DEĞİL)
-class VeriPaketi extends KuantumNesnesi {
-
-    public VeriPaketi(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
+    // Kayıtlar nesnelere yüklenir; sonraki stabilite değişiklikleri dosyada yerinde güncellenir
+    static void dosyaAc(Path yol) throws IOException {
+        long baslangic = System.nanoTime();
+        dosya = KaliciEnvanter.ac(yol, 1024);
+        for (int i = 0; i < dosya.boyut(); i++) {
+            KuantumNesnesi nesne = nesneOlustur(dosya.tip(i), dosya.anahtar(i), dosya.stabilite(i), dosya.tehlike(i));
+            if (nesne.getStabilite() <= 0) nesne.coktuIsaretle();
+            envanter.ekle(nesne);
+        }
+        envanter.dinleyiciEkle(dosya::stabiliteYaz);
+        System.out.printf("%d nesne yüklendi (%s, %.1f ms)%n", dosya.boyut(), yol,
+                (System.nanoTime() - baslangic) / 1e6);
     }
 
-    @Override
-    public void analizEt() throws KuantumCokusuException {
-        System.out.println("Veri içeriği okundu.");
-        setStabilite(getStabilite() - 5);
-        stabiliteKontrol();
+    static void dosyaKapat() {
+        if (dosya == null) return;
+        try {
+            dosya.close();
+        } catch (IOException e) {
+            System.out.println("Envanter dosyası kapatılamadı: " + e.getMessage());
+        }
     }
-}
-
-// KaranlikMadde (IKritik)
-class KaranlikMadde extends KuantumNesnesi implements IKritik {
 
-    public KaranlikMadde(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
+    // Mevcut en büyük anahtardan sonra başlar; ID'ler yüklenen envanterle çakışmaz
+    static KimlikUreteci kimlikler() {
+        if (kimlikler == null) {
+            long enBuyuk = -1;
+            for (KuantumNesnesi n : envanter) {
+                enBuyuk = Math.max(enBuyuk, n.getAnahtar());
+            }
+            kimlikler = new KimlikUreteci(enBuyuk + 1);
+        }
+        return kimlikler;
     }
 
-    @Override
-    public void analizEt() throws KuantumCokusuException {
-        setStabilite(getStabilite() - 15);
-        stabiliteKontrol();
+    // ID blokları, envanter yüklendikten sonra kurulan ortak üreteçten ayrılır
+    static IsYukuUretici uretici() {
+        if (uretici == null) uretici = new IsYukuUretici(tohum);
+        return uretici.kimlikler(kimlikler());
     }
 
-    @Override
-    public void acilDurumSogutmasi() {
-        setStabilite(getStabilite() + 50);
-        System.out.println("Acil soğutma uygulandı.");
+    // Toplu üretimin (--uret, sunucuda ADD) dağılımları:
+    //   --tip-karisimi 2,1,1          kayıtlı tip başına ağırlık, kod sırasıyla
+    //   --stabilite 40-100            eşit olasılıklı tam sayı aralığı (varsayılan 60-100)
+    //   --stabilite-normal 70,15      ortalama ve sapma
+    //   --tehlike 1,1,1,1,1,1,1,1,2,4 tehlike 1..10 ağırlıkları
+    static void uretimAyarlari(List<String> argumanlar, String[] args) {
+        IsYukuUretici u = new IsYukuUretici(tohum);
+        int i = argumanlar.indexOf("--tip-karisimi");
+        if (i >= 0 && i + 1 < args.length) u.tipKarisimi(sayilar(args[i + 1]));
+        i = argumanlar.indexOf("--stabilite");
+        if (i >= 0 && i + 1 < args.length) {
+            double[] aralik = sayilar(args[i + 1].replace('-', ','));
+            if (aralik.length != 2) throw new IllegalArgumentException("--stabilite min-maks bekler: " + args[i + 1]);
+            u.stabiliteAraligi((int) aralik[0], (int) aralik[1]);
+        }
+        i = argumanlar.indexOf("--stabilite-normal");
+        if (i >= 0 && i + 1 < args.length) {
+            double[] ns = sayilar(args[i + 1]);
+            if (ns.length != 2) throw new IllegalArgumentException("--stabilite-normal ortalama,sapma bekler: " + args[i + 1]);
+            u.stabiliteNormal(ns[0], ns[1]);
+        }
+        i = argumanlar.indexOf("--tehlike");
+        if (i >= 0 && i + 1 < args.length) u.tehlikeAgirliklari(sayilar(args[i + 1]));
+        uretici = u;
     }
-}
 
-// AntiMadde (En Tehlikeli)
-class AntiMadde extends KuantumNesnesi implements IKritik {
-
-    public AntiMadde(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
+    private static double[] sayilar(String liste) {
+        String[] parcalar = liste.split(",");
+        double[] sonuc = new double[parcalar.length];
+        for (int i = 0; i < parcalar.length; i++) {
+            try {
+                sonuc[i] = Double.parseDouble(parcalar[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Sayı bekleniyordu: " + parcalar[i]);
+            }
+        }
+        return sonuc;
     }
 
-    @Override
-    public void analizEt() throws KuantumCokusuException {
-        System.out.println("EVRENİN DOKUSU TİTRİYOR...");
-        setStabilite(getStabilite() - 25);
-        stabiliteKontrol();
+    static void topluUret(int adet) {
+        long baslangic = System.nanoTime();
+        List<KuantumNesnesi> nesneler = Arrays.asList(uretici().nesneler(adet));
+        long uretim = System.nanoTime() - baslangic;
+        List<KuantumNesnesi> reddedilen = topluEkle(nesneler);
+        if (!reddedilen.isEmpty()) {
+            System.out.println(reddedilen.size() + " nesne eklenemedi, ID zaten mevcut: " + reddedilen.get(0).getId());
+        }
+        System.out.printf("%d nesne üretildi (tohum %d): üretim %.1f ms, ekleme %.1f ms%n", adet, tohum,
+                uretim / 1e6, (System.nanoTime() - baslangic - uretim) / 1e6);
     }
 
-    @Override
-    public void acilDurumSogutmasi() {
-        setStabilite(getStabilite() + 50);
-        System.out.println("Acil soğutma uygulandı.");
+    // Etkileşimsiz mod: "-" standart girdiden okur; LIST çıktısı stdout'a, rapor stderr'e
+    static void betikCalistir(String kaynak) {
+        PrintWriter cikti = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16), false);
+        BetikCalistirici calistirici = new BetikCalistirici(envanter, cikti);
+        try (Reader okuyucu = kaynak.equals("-")
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Path.of(kaynak), StandardCharsets.UTF_8)) {
+            calistirici.calistir(okuyucu);
+        } catch (IOException e) {
+            System.err.println("Betik okunamadı: " + e.getMessage());
+        }
     }
-}
-
-// ===============================
-// MAIN CLASS
-// ===============================
-public class Main {
-
-    static Scanner scanner = new Scanner(System.in);
-    static List<KuantumNesnesi> envanter = new ArrayList<>();
-    static Random rnd = new Random();
 
-    public static void main(String[] args) {
+    // Yalnızca localhost'u dinler; Ctrl-C sunucuyu durdurur, günlük ve dosya normal kapanır
+    static void sunucuCalistir(int port) {
+        try {
+            KontrolSunucusu sunucu = new KontrolSunucusu(envanter, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            Thread ana = Thread.currentThread();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                sunucu.close();
+                try {
+                    ana.join(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            LogHatti.sistem().bilgi("Kontrol sunucusu dinleniyor: 127.0.0.1:" + sunucu.port());
+            sunucu.calistir();
+        } catch (IOException e) {
+            System.out.println("Kontrol sunucusu başlatılamadı: " + e.getMessage());
+        }
+    }
 
+    static void komutDongusu() {
         while (true) {
             try {
+                // Önceki komutun olayları ve logları menüden önce konsolda olsun
+                if (akis != null) akis.bekle();
+                LogHatti.sistem().bekle();
                 menu();
                 int secim = Integer.parseInt(scanner.nextLine());
 
@@ -149,14 +325,29 @@ public class Main {
                     case 2 -> listele();
                     case 3 -> analizEt();
                     case 4 -> sogut();
-                    case 5 -> {
+                    case 5 -> topluAnaliz();
+                    case 6 -> topluSogutma();
+                    case 7 -> enRiskliSogut();
+                    case 8 -> riskRaporu();
+                    case 9 -> metrikRaporu();
+                    case 10 -> {
                         System.out.println("Çıkış yapılıyor...");
                         return;
                     }
                     default -> System.out.println("Geçersiz seçim!");
                 }
+                zincirYay();
+                gunluguSikistir();
 
             } catch (KuantumCokusuException e) {
+                zincirYay();
+                if (akis != null) akis.bekle();
+                LogHatti.sistem().bekle();
+                if (zincir != null) {
+                    // Zincirin raporu loglandı; ambar çalışmaya devam eder
+                    System.out.println("\n" + e.getMessage());
+                    continue;
+                }
                 System.out.println("\nSİSTEM ÇÖKTÜ! TAHLİYE BAŞLATILIYOR...");
                 System.out.println(e.getMessage());
                 return;
@@ -177,68 +368,240 @@ public class Main {
                 2. Tüm Envanteri Listele
                 3. Nesneyi Analiz Et
                 4. Acil Durum Soğutması Yap
-                5. Çıkış
+                5. Toplu Analiz
+                6. Toplu Soğutma
+                7. En Riskli Nesneleri Soğut
+                8. Risk Raporu
+                9. Metrik Raporu
+                10. Çıkış
                 Seçiminiz:
                 """);
     }
 
     static void nesneEkle() {
-        int tip = rnd.nextInt(3);
-        String id = "QN-" + rnd.nextInt(1000);
+        List<NesneTipi> tipler = TipKayitDefteri.tipler();
+        int tip = tipler.get(rnd.nextInt(tipler.size())).kod();
         double stabilite = 60 + rnd.nextInt(41);
         int tehlike = 1 + rnd.nextInt(10);
 
-        KuantumNesnesi nesne;
-
-        if (tip == 0)
-            nesne = new VeriPaketi(id, stabilite, tehlike);
-        else if (tip == 1)
-            nesne = new KaranlikMadde(id, stabilite, tehlike);
-        else
-            nesne = new AntiMadde(id, stabilite, tehlike);
+        KuantumNesnesi nesne = nesneOlustur(tip, kimlikler().sonraki(), stabilite, tehlike);
 
-        envanter.add(nesne);
+        ekle(nesne);
         System.out.println("Yeni nesne eklendi: " + nesne.durumBilgisi());
     }
 
+    // Envantere ekler; açıksa kalıcı dosyaya ve işlem günlüğüne de yazar
+    static void ekle(KuantumNesnesi nesne) {
+        envanter.ekle(nesne);
+        eklendi(nesne);
+    }
+
+    // Parçalı envanterde parça başına tek görevle ekler. Eklenemeyen (aynı ID)
+    // nesneler atlanıp döner; eklenenler ekle() gibi dosyaya ve günlüğe yazılır.
+    static List<KuantumNesnesi> topluEkle(List<KuantumNesnesi> nesneler) {
+        List<KuantumNesnesi> reddedilen = envanter.topluEkle(nesneler);
+        Set<KuantumNesnesi> atla = Collections.newSetFromMap(new IdentityHashMap<>());
+        atla.addAll(reddedilen);
+        for (KuantumNesnesi n : nesneler) {
+            if (!atla.contains(n)) eklendi(n);
+        }
+        return reddedilen;
+    }
+
+    private static void eklendi(KuantumNesnesi nesne) {
+        Metrikler.sistem().eklendi(nesne);
+        if (dosya != null) {
+            try {
+                dosya.ekle(nesne);
+            } catch (IOException e) {
+                System.out.println("Dosyaya yazılamadı: " + e.getMessage());
+            }
+        }
+        if (gunluk != null) gunluk.ekle(nesne);
+    }
+
+    static KuantumNesnesi nesneOlustur(int tip, long anahtar, double stabilite, int tehlike) {
+        return TipKayitDefteri.olustur(tip, anahtar, stabilite, tehlike);
+    }
+
+    // Sayfa sayfa yazar; büyük envanterde önce filtre ve sıralama sorulabilir
     static void listele() {
         if (envanter.isEmpty()) {
             System.out.println("Envanter boş.");
             return;
         }
-        for (KuantumNesnesi n : envanter) {
-            System.out.println(n.durumBilgisi());
+        EnvanterSorgusu sorgu = new EnvanterSorgusu(LISTE_SAYFASI);
+        if (envanter.boyut() > LISTE_SAYFASI) {
+            System.out.print("Filtre/sıralama (boş = hepsi, f = seç): ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("f")) {
+                sorgu.filtre(filtreSor()).siralama(siralamaSor());
+            }
         }
+
+        StringBuilder sayfa = new StringBuilder(LISTE_SAYFASI * 48);
+        EnvanterSorgusu.Imlec imlec = null;
+        do {
+            sayfa.setLength(0);
+            imlec = sorgu.yaz(envanter, imlec, sayfa);
+            System.out.print(sayfa);
+            if (imlec == null) return;
+            System.out.printf("-- %d nesne daha (Enter = sonraki sayfa, q = çık): ", sorgu.kalan() - LISTE_SAYFASI);
+        } while (!scanner.nextLine().trim().equalsIgnoreCase("q"));
+    }
+
+    static EnvanterSorgusu.Siralama siralamaSor() {
+        System.out.print("Sıralama (0=ID, 1=Stabilite artan, 2=Stabilite azalan, 3=Tehlike azalan): ");
+        return switch (scanner.nextLine().trim()) {
+            case "1" -> EnvanterSorgusu.Siralama.STABILITE_ARTAN;
+            case "2" -> EnvanterSorgusu.Siralama.STABILITE_AZALAN;
+            case "3" -> EnvanterSorgusu.Siralama.TEHLIKE_AZALAN;
+            default -> EnvanterSorgusu.Siralama.KIMLIK;
+        };
     }
 
     static void analizEt() throws KuantumCokusuException {
         System.out.print("ID giriniz: ");
         String id = scanner.nextLine();
 
-        for (KuantumNesnesi n : envanter) {
-            if (n.getId().equals(id)) {
-                n.analizEt();
-                System.out.println(n.durumBilgisi());
-                return;
-            }
+        KuantumNesnesi n = bul(id);
+        if (n == null) {
+            System.out.println("Nesne bulunamadı!");
+            return;
+        }
+        if (envanter.sahibinde(n, Main::analizEt) == AnalizSonucu.COKTU) {
+            throw new KuantumCokusuException(n.getId());
         }
-        System.out.println("Nesne bulunamadı!");
+        // Tipin analiz satırı log hattından geçer; durum da aynı sırayla yazılsın
+        LogHatti.sistem().bilgi(n.durumBilgisi());
+    }
+
+    // Nesnenin kendi analizEt()'i (tipin log satırlarıyla); çöküş sonuç olarak döner
+    private static AnalizSonucu analizEt(KuantumNesnesi n) {
+        long baslangic = System.nanoTime();
+        AnalizSonucu sonuc = AnalizSonucu.COKTU;
+        try {
+            n.analizEt();
+            sonuc = n.getStabilite() < KuantumNesnesi.UYARI_ESIGI ? AnalizSonucu.UYARI : AnalizSonucu.TAMAM;
+        } catch (KuantumCokusuException e) {
+            // sonuc COKTU kalır
+        } finally {
+            Metrikler.sistem().analizEdildi(n, sonuc, System.nanoTime() - baslangic);
+        }
+        return sonuc;
     }
 
     static void sogut() {
-        System.out.print("ID giriniz: ");
-        String id = scanner.nextLine();
+        System.out.print("ID giriniz (boş = en riskli kritik nesne): ");
+        String id = scanner.nextLine().trim();
 
-        for (KuantumNesnesi n : envanter) {
-            if (n.getId().equals(id)) {
-                if (n instanceof IKritik kritik) {
-                    kritik.acilDurumSogutmasi();
-                } else {
-                    System.out.println("Bu nesne soğutulamaz!");
-                }
-                return;
+        if (id.isEmpty()) {
+            enRiskliSogut(1);
+            return;
+        }
+
+        KuantumNesnesi n = bul(id);
+        if (n == null) {
+            System.out.println("Nesne bulunamadı!");
+            return;
+        }
+        if (!envanter.sahibinde(n, Metrikler.sistem()::sogut)) {
+            System.out.println("Bu nesne soğutulamaz!");
+        }
+    }
+
+    static void enRiskliSogut() {
+        System.out.print("Kaç nesne soğutulsun: ");
+        enRiskliSogut(Integer.parseInt(scanner.nextLine().trim()));
+    }
+
+    static void enRiskliSogut(int k) {
+        List<KuantumNesnesi> hedefler = envanter.riskIndeksi().enRiskliKritikler(k);
+        if (hedefler.isEmpty()) {
+            System.out.println("Soğutulacak kritik nesne yok.");
+            return;
+        }
+        for (KuantumNesnesi n : hedefler) {
+            envanter.sahibinde(n, Metrikler.sistem()::sogut);
+            LogHatti.sistem().bilgi(n.durumBilgisi());
+        }
+    }
+
+    // Arama süresi metriklere yazılır; girdi ara String oluşturmadan anahtara çevrilir
+    static KuantumNesnesi bul(CharSequence id) {
+        long baslangic = System.nanoTime();
+        long anahtar = NesneKimligi.coz(id);
+        KuantumNesnesi n = anahtar == NesneKimligi.YOK ? null : envanter.bul(anahtar);
+        Metrikler.sistem().aramaYapildi(System.nanoTime() - baslangic);
+        return n;
+    }
+
+    static void metrikRaporu() {
+        System.out.print(Metrikler.sistem().getOzet());
+        if (akis != null) {
+            System.out.printf("%nDeğişiklik akışı: %d olay, %d abone, %d kez geri basınç%n",
+                    akis.olaySayisi(), akis.aboneSayisi(), akis.beklemeSayisi());
+        }
+        if (zincir != null) {
+            System.out.printf("Zincirleme çöküş: %d zincir, %d çöken nesne%n", zincir.zincirSayisi(), zincir.toplamCoken());
+            if (zincir.enBuyuk() != null) System.out.println("En büyük: " + zincir.enBuyuk());
+        }
+    }
+
+    static void riskRaporu() {
+        RiskIndeksi risk = envanter.riskIndeksi();
+        StringBuilder dagilim = new StringBuilder("Tip dağılımı:");
+        for (NesneTipi tip : TipKayitDefteri.tipler()) {
+            dagilim.append(' ').append(tip.ad()).append('=').append(envanter.tipSayisi(tip.kod()));
+        }
+        System.out.println(dagilim);
+        System.out.println("Stabilitesi %" + (int) KuantumNesnesi.UYARI_ESIGI + " altında: "
+                + risk.esikAltindaSayisi((int) KuantumNesnesi.UYARI_ESIGI));
+        System.out.println("En riskli kritik nesneler:");
+        for (KuantumNesnesi n : risk.enRiskliKritikler(5)) {
+            System.out.println("  " + n.durumBilgisi() + " | Tehlike: " + n.getTehlikeSeviyesi());
+        }
+    }
+
+    static void topluAnaliz() {
+        TopluIslem.Ozet ozet = TopluIslem.analizEt(envanter, filtreSor());
+        for (KuantumCokusuException e : ozet.cokusler) {
+            System.out.println(e.getMessage());
+        }
+        System.out.println(ozet);
+    }
+
+    static void topluSogutma() {
+        System.out.println(TopluIslem.sogut(envanter, filtreSor()));
+    }
+
+    static Predicate<KuantumNesnesi> filtreSor() {
+        Predicate<KuantumNesnesi> filtre = TopluIslem.tumu();
+
+        List<NesneTipi> tipler = TipKayitDefteri.tipler();
+        StringBuilder secenekler = new StringBuilder("Tip (0=Tümü");
+        for (int i = 0; i < tipler.size(); i++) {
+            secenekler.append(", ").append(i + 1).append('=').append(tipler.get(i).ad());
+        }
+        System.out.print(secenekler.append("): "));
+        String tip = scanner.nextLine().trim();
+        if (!tip.isEmpty() && !tip.equals("0")) {
+            int secim = Integer.parseInt(tip);
+            if (secim >= 1 && secim <= tipler.size()) {
+                filtre = filtre.and(TopluIslem.tipKodu(tipler.get(secim - 1).kod()));
             }
         }
-        System.out.println("Nesne bulunamadı!");
+
+        System.out.print("En az tehlike seviyesi (boş = hepsi): ");
+        String tehlike = scanner.nextLine().trim();
+        if (!tehlike.isEmpty()) {
+            filtre = filtre.and(TopluIslem.tehlikeEnAz(Integer.parseInt(tehlike)));
+        }
+
+        System.out.print("Stabilite üst sınırı ya da aralığı, ör. 30 veya 10-30 (boş = hepsi): ");
+        String stabilite = scanner.nextLine().trim();
+        if (!stabilite.isEmpty()) {
+            filtre = filtre.and(TopluIslem.stabiliteFiltresi(stabilite));
+        }
+        return filtre;
     }
 }
@@ -0,0 +1,40 @@
+package cli;
+
+import ortak.*;
+
+// ===============================
+// Nesne Kaydı (küme mesajı)
+// ===============================
+// Nesnenin düğümler arasında taşınan değer kopyası
+final class NesneKaydi {
+    final int tipKodu;
+    final long anahtar;
+    final double stabilite;
+    final int tehlike;
+    // Çökmüş nesne taşındıktan sonra da çökmüş kalır; yeniden çöküş bildirmez
+    final boolean coktu;
+
+    NesneKaydi(int tipKodu, long anahtar, double stabilite, int tehlike, boolean coktu) {
+        this.tipKodu = tipKodu;
+        this.anahtar = anahtar;
+        this.stabilite = stabilite;
+        this.tehlike = tehlike;
+        this.coktu = coktu;
+    }
+
+    static NesneKaydi ondan(KuantumNesnesi n) {
+        return new NesneKaydi(n.getTipKodu(), n.getAnahtar(), n.getStabilite(), n.getTehlikeSeviyesi(), n.isCoktu());
+    }
+
+    // Alan düğümde yeni, dinleyicisiz nesne
+    KuantumNesnesi nesne() {
+        KuantumNesnesi n = TipKayitDefteri.olustur(tipKodu, anahtar, stabilite, tehlike);
+        if (coktu) n.coktuIsaretle();
+        return n;
+    }
+
+    void durumYaz(StringBuilder hedef) {
+        NesneKimligi.yaz(anahtar, hedef.append("ID: ")).append(" | Stabilite: ");
+        SayiBicimi.ondalik(hedef, stabilite, 1).append(" | Tehlike: ").append(tehlike);
+    }
+}
@@ -0,0 +1,30 @@
+package cli;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ===============================
+// Yerel Taşıma
+// ===============================
+// Aynı süreçteki düğümler: istek doğrudan düğümün posta kutusuna bırakılır.
+// Tüm küme tek makinede çalıştırılıp denenebilir.
+class YerelTasima implements KumeTasimasi {
+
+    private final Map<Integer, KumeDugumu> dugumler = new ConcurrentHashMap<>();
+
+    void kaydet(KumeDugumu dugum) {
+        if (dugumler.putIfAbsent(dugum.no(), dugum) != null) {
+            throw new IllegalArgumentException("Düğüm zaten kayıtlı: " + dugum.no());
+        }
+    }
+
+    @Override
+    public CompletableFuture<KumeYaniti> gonder(int dugum, KumeIstegi istek) {
+        KumeDugumu hedef = dugumler.get(dugum);
+        if (hedef == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Bilinmeyen düğüm: " + dugum));
+        }
+        return hedef.al(istek);
+    }
+}
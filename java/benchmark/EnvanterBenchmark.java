@@ -0,0 +1,86 @@
+package cli;
+
+import org.openjdk.jmh.annotations.*;
+import ortak.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// ===============================
+// Envanter Benchmark: ID arama ve toplu sayımlar
+// ===============================
+// Çalıştırma: mvn -f java/pom.xml -Pjmh verify -Djmh.args="EnvanterBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvanterBenchmark {
+
+    private static final long TOHUM = 42;
+    private static final int ARAMA_SAYISI = 4096;
+
+    @Param({"1000", "100000", "1000000"})
+    public int boyut;
+
+    private List<KuantumNesnesi> liste;
+    private EnvanterDeposu depo;
+    private KolonEnvanter kolon;
+    private String[] aranacak;
+    private int sira;
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        Random rnd = new Random(TOHUM);
+        liste = new ArrayList<>(boyut);
+        depo = new EnvanterDeposu();
+        kolon = new KolonEnvanter(boyut);
+
+        for (KuantumNesnesi n : new IsYukuUretici(TOHUM).nesneler(boyut)) {
+            liste.add(n);
+            depo.ekle(n);
+            kolon.ekle(n);
+        }
+
+        aranacak = new String[ARAMA_SAYISI];
+        for (int i = 0; i < ARAMA_SAYISI; i++) {
+            aranacak[i] = "QN-" + rnd.nextInt(boyut);
+        }
+    }
+
+    private String sonrakiId() {
+        return aranacak[sira++ & (ARAMA_SAYISI - 1)];
+    }
+
+    // Eski Main.analizEt / sogut davranışı
+    @Benchmark
+    public KuantumNesnesi idAraDogrusal() {
+        String id = sonrakiId();
+        for (KuantumNesnesi n : liste) {
+            if (n.getId().equals(id)) return n;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public KuantumNesnesi idAraDepo() {
+        return depo.bul(sonrakiId());
+    }
+
+    @Benchmark
+    public int idAraKolon() {
+        return kolon.satir(NesneKimligi.coz(sonrakiId()));
+    }
+
+    // Eski guncelleIstatistik davranışı
+    @Benchmark
+    public long kritikSayAkis() {
+        return liste.stream().filter(n -> n instanceof IKritik).count();
+    }
+
+    @Benchmark
+    public int kritikSayIndeks() {
+        return depo.kritikSayisi();
+    }
+}
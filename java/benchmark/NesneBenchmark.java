@@ -0,0 +1,87 @@
+package cli;
+
+import org.openjdk.jmh.annotations.*;
+import ortak.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ===============================
+// Nesne Benchmark: oluşturma, analiz ve durum metni
+// ===============================
+// Çalıştırma: mvn -f java/pom.xml -Pjmh verify -Djmh.args="NesneBenchmark"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NesneBenchmark {
+
+    private static final int TOPLU = 1000;
+
+    private Random rnd;
+    private int sayac;
+    private KuantumNesnesi ornek;
+
+    @State(Scope.Thread)
+    public static class TipDurumu {
+        // 0 = VeriPaketi, 1 = KaranlikMadde, 2 = AntiMadde
+        @Param({"0", "1", "2"})
+        public int tip;
+
+        KuantumNesnesi nesne;
+
+        @Setup(Level.Trial)
+        public void hazirla() {
+            nesne = Main.nesneOlustur(tip, 1, 100, 5);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        rnd = new Random(42);
+        ornek = Main.nesneOlustur(2, 1234, 87.5, 7);
+        // analizEt log hattına yazıyor; tüketicinin konsol G/Ç'si ölçüme karışmasın
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    // Main.nesneEkle içindeki oluşturma yolu
+    @Benchmark
+    public KuantumNesnesi nesneOlustur() {
+        return Main.nesneOlustur(rnd.nextInt(3), rnd.nextInt(1000),
+                60 + rnd.nextInt(41), 1 + rnd.nextInt(10));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOPLU)
+    public EnvanterDeposu envantereEkle() {
+        EnvanterDeposu depo = new EnvanterDeposu();
+        for (int i = 0; i < TOPLU; i++) {
+            depo.ekle(Main.nesneOlustur(i % 3, sayac++,
+                    60 + rnd.nextInt(41), 1 + rnd.nextInt(10)));
+        }
+        return depo;
+    }
+
+    @Benchmark
+    public double analizEt(TipDurumu durum) throws KuantumCokusuException {
+        durum.nesne.setStabilite(100);
+        durum.nesne.analizEt();
+        return durum.nesne.getStabilite();
+    }
+
+    // İstisnasız analiz yolu
+    @Benchmark
+    public AnalizSonucu analiz(TipDurumu durum) {
+        durum.nesne.setStabilite(100);
+        return durum.nesne.analiz();
+    }
+
+    @Benchmark
+    public String durumBilgisi() {
+        return ornek.durumBilgisi();
+    }
+}
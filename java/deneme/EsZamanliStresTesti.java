@@ -0,0 +1,114 @@
+package cli;
+
+import ortak.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ===============================
+// Eş Zamanlı Stres Testi
+// ===============================
+// Çalıştırma (-Pjmh paketinden): java -cp target/benchmarks.jar cli.EsZamanliStresTesti [iş parçacığı sayısı]
+// Başarısızlıkta çıkış kodu 1 olur.
+public class EsZamanliStresTesti {
+
+    // 1/1024 ikili sistemde tam gösterilir; toplamlar yuvarlama hatası içermez
+    private static final double ADIM = 1.0 / 1024;
+    private static final int NESNE_SAYISI = 2_000;
+    private static final int TEKRAR = 10;
+
+    public static void main(String[] args) throws Exception {
+        int isParcacigi = args.length > 0 ? Integer.parseInt(args[0])
+                : Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        boolean basarili = kayipGuncellemeYok(isParcacigi) & cokusBirKez(isParcacigi);
+        System.out.println(basarili ? "TÜM KONTROLLER BAŞARILI" : "KONTROL BAŞARISIZ");
+        if (!basarili) System.exit(1);
+    }
+
+    // Her iş parçacığı aynı nesneden eşit sayıda ADIM düşer; toplam düşüş 0 sınırına
+    // değmediği için beklenen son değer tam olarak hesaplanabilir.
+    static boolean kayipGuncellemeYok(int isParcacigi) throws Exception {
+        KaranlikMadde nesne = new KaranlikMadde(0, 100, 5);
+        int adimSayisi = (int) (90 / (isParcacigi * ADIM));
+        double beklenen = 100 - isParcacigi * adimSayisi * ADIM;
+
+        calistir(isParcacigi, () -> {
+            for (int i = 0; i < adimSayisi; i++) {
+                nesne.hasarAl(ADIM);
+            }
+        });
+
+        boolean basarili = nesne.getStabilite() == beklenen;
+        System.out.printf("Kayıp güncelleme: beklenen %.4f, bulunan %.4f -> %s%n",
+                beklenen, nesne.getStabilite(), basarili ? "OK" : "HATA");
+        return basarili;
+    }
+
+    // Tüm iş parçacıkları aynı nesneleri çökene kadar analiz eder; her nesne için
+    // çöküş (COKTU) tam olarak bir kez gelmelidir. İş parçacıkları üç yolu karışık
+    // kullanır: analiz() sonucu, analizEt() istisnası ve zincirleme hasarAl().
+    // KaranlikMadde analizde log satırı yazmaz; çıktıya karışmaz.
+    static boolean cokusBirKez(int isParcacigi) throws Exception {
+        EsZamanliEnvanter envanter = new EsZamanliEnvanter();
+        for (int i = 0; i < NESNE_SAYISI; i++) {
+            envanter.ekle(new KaranlikMadde(i, 100, 1 + i % 10));
+        }
+        List<KuantumNesnesi> nesneler = new ArrayList<>();
+        envanter.forEach(nesneler::add);
+        double bozunma = TipKayitDefteri.BOZUNMA[TipKayitDefteri.KARANLIK_MADDE];
+
+        ConcurrentHashMap<Long, AtomicInteger> cokusler = new ConcurrentHashMap<>();
+        AtomicInteger siradaki = new AtomicInteger();
+        calistir(isParcacigi, () -> {
+            int yol = siradaki.getAndIncrement() % 3;
+            for (int t = 0; t < TEKRAR; t++) {
+                for (KuantumNesnesi n : nesneler) {
+                    boolean coktu;
+                    if (yol == 0) {
+                        coktu = n.analiz() == AnalizSonucu.COKTU;
+                    } else if (yol == 1) {
+                        try {
+                            n.analizEt();
+                            coktu = false;
+                        } catch (KuantumCokusuException e) {
+                            coktu = true;
+                        }
+                    } else {
+                        coktu = n.hasarAl(bozunma) == AnalizSonucu.COKTU;
+                    }
+                    if (coktu) {
+                        cokusler.computeIfAbsent(n.getAnahtar(), k -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        long hatali = nesneler.stream()
+                .filter(n -> {
+                    AtomicInteger sayac = cokusler.get(n.getAnahtar());
+                    return sayac == null || sayac.get() != 1 || !n.isCoktu();
+                })
+                .count();
+        System.out.printf("Tek çöküş: %d nesne, %d hatalı -> %s%n",
+                nesneler.size(), hatali, hatali == 0 ? "OK" : "HATA");
+        return hatali == 0;
+    }
+
+    private static void calistir(int isParcacigi, Runnable gorev) throws Exception {
+        ExecutorService havuz = Executors.newFixedThreadPool(isParcacigi);
+        CountDownLatch baslat = new CountDownLatch(1);
+        List<Future<?>> sonuclar = new ArrayList<>();
+        for (int i = 0; i < isParcacigi; i++) {
+            sonuclar.add(havuz.submit(() -> {
+                baslat.await();
+                gorev.run();
+                return null;
+            }));
+        }
+        baslat.countDown();
+        for (Future<?> f : sonuclar) f.get();
+        havuz.shutdown();
+    }
+}
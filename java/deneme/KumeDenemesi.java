@@ -0,0 +1,145 @@
+package cli;
+
+import ortak.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// ===============================
+// Küme Denemesi (tek makinede)
+// ===============================
+// Çalıştırma (-Pjmh paketinden): java -cp target/benchmarks.jar cli.KumeDenemesi [ilk düğüm] [katılan düğüm] [nesne] [iş parçacığı]
+// Yerel taşımayla bir küme kurar, nesneleri koordinatör üzerinden ekler ve
+// iş parçacıkları analiz ve soğutma yaparken yeni düğümleri birer birer katar.
+// Nesneler üç yerleşik tipe sırayla dağıtılır; kritik tipler (KaranlikMadde,
+// AntiMadde) soğutma da alır. Dengeleme çalışırken işlemler durmaz. Sonunda
+// hiçbir nesnenin kaybolmadığı ve hiçbir işlemin kaybolmadığı/iki kez
+// uygulanmadığı denetlenir. Başarısızlıkta çıkış kodu 1 olur.
+public class KumeDenemesi {
+
+    private static final int BASLANGIC = 100;
+    private static final int[] TIPLER = {
+            TipKayitDefteri.VERI_PAKETI, TipKayitDefteri.KARANLIK_MADDE, TipKayitDefteri.ANTI_MADDE
+    };
+
+    public static void main(String[] args) throws Exception {
+        int ilkDugum = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int katilan = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int nesneSayisi = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        int isParcacigi = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+        YerelTasima tasima = new YerelTasima();
+        List<KumeDugumu> dugumler = new ArrayList<>();
+        KumeKoordinatoru kume = new KumeKoordinatoru(tasima, KumeKoordinatoru.VARSAYILAN_BOLUM);
+        for (int d = 0; d < ilkDugum; d++) dugumEkle(tasima, kume, dugumler, d).get();
+
+        long baslangic = System.nanoTime();
+        for (int i = 0; i < nesneSayisi; i++) {
+            kume.ekle(TipKayitDefteri.olustur(TIPLER[i % TIPLER.length], i, BASLANGIC, 1 + i % 10));
+        }
+        System.out.printf("%d düğüme %d nesne eklendi (%.0f ms)%n", ilkDugum, nesneSayisi,
+                (System.nanoTime() - baslangic) / 1e6);
+
+        // Her nesnenin beklenen stabilitesi. Nesne i yalnızca i % isParcacigi numaralı
+        // iş parçacığında işlenir, işlemleri sırayla uygulanır; analiz nesneyi
+        // çökertecekse yapılmaz, soğutma 100'de sınırlanır.
+        AtomicIntegerArray beklenen = new AtomicIntegerArray(nesneSayisi);
+        for (int i = 0; i < nesneSayisi; i++) beklenen.set(i, BASLANGIC);
+        LongAdder islemler = new LongAdder();
+        LongAdder sogutmalar = new LongAdder();
+        LongAdder hatalar = new LongAdder();
+        ExecutorService havuz = Executors.newFixedThreadPool(isParcacigi);
+        CountDownLatch durdur = new CountDownLatch(1);
+        List<Future<?>> isciler = new ArrayList<>();
+        for (int t = 0; t < isParcacigi; t++) {
+            int no = t;
+            isciler.add(havuz.submit(() -> {
+                SplittableRandom rnd = new SplittableRandom(no);
+                int payi = (nesneSayisi - no + isParcacigi - 1) / isParcacigi;
+                while (durdur.getCount() > 0 && payi > 0) {
+                    int i = no + isParcacigi * rnd.nextInt(payi);
+                    int tip = TIPLER[i % TIPLER.length];
+                    int e = beklenen.get(i);
+                    int kayip = (int) TipKayitDefteri.BOZUNMA[tip];
+                    if (TipKayitDefteri.KRITIK[tip] && (rnd.nextInt(5) == 0 || e - kayip <= 0)) {
+                        if (Double.isNaN(kume.sogut(i))) hatalar.increment();
+                        beklenen.set(i, Math.min(BASLANGIC, e + (int) TipKayitDefteri.SOGUTMA[tip]));
+                        sogutmalar.increment();
+                    } else if (e - kayip > 0) {
+                        if (kume.analizEt(i) == null) hatalar.increment();
+                        beklenen.set(i, e - kayip);
+                    } else {
+                        continue;
+                    }
+                    islemler.increment();
+                }
+                return null;
+            }));
+        }
+
+        baslangic = System.nanoTime();
+        for (int d = ilkDugum; d < ilkDugum + katilan; d++) {
+            long katilma = System.nanoTime();
+            dugumEkle(tasima, kume, dugumler, d).get();
+            System.out.printf("Düğüm %d katıldı, dengeleme %.0f ms, bölümler %s%n", d,
+                    (System.nanoTime() - katilma) / 1e6, kume.bolumDagilimi());
+        }
+        durdur.countDown();
+        for (Future<?> f : isciler) f.get();
+        havuz.shutdown();
+        double sure = (System.nanoTime() - baslangic) / 1e9;
+        System.out.printf("Dengeleme sırasında %d işlem, %d soğutma (%.0f işlem/s), %d yeniden yönlendirme%n",
+                islemler.sum(), sogutmalar.sum(), islemler.sum() / sure, kume.yonlendirmeSayisi());
+
+        boolean basarili = hatalar.sum() == 0 & dogrula(kume, beklenen, nesneSayisi) & dengeli(kume);
+        KumeKoordinatoru.Istatistik istatistik = kume.istatistik();
+        int kritik = nesneSayisi - (nesneSayisi + TIPLER.length - 1) / TIPLER.length;
+        boolean kritikTamam = istatistik.kritik == kritik;
+        System.out.println("İstatistik: " + istatistik + " (beklenen kritik " + kritik + ") -> "
+                + (kritikTamam ? "OK" : "HATA"));
+        basarili &= kritikTamam;
+        kume.close();
+        for (KumeDugumu d : dugumler) d.close();
+        System.out.println(basarili ? "TÜM KONTROLLER BAŞARILI" : "KONTROL BAŞARISIZ");
+        if (!basarili) System.exit(1);
+    }
+
+    private static Future<Void> dugumEkle(YerelTasima tasima, KumeKoordinatoru kume, List<KumeDugumu> dugumler,
+                                          int no) {
+        KumeDugumu dugum = new KumeDugumu(no, KumeKoordinatoru.VARSAYILAN_BOLUM);
+        tasima.kaydet(dugum);
+        dugumler.add(dugum);
+        return kume.dugumEkle(no);
+    }
+
+    // Her nesne tam bir kez bulunmalı ve stabilitesi yapılan işlemlerle örtüşmeli
+    private static boolean dogrula(KumeKoordinatoru kume, AtomicIntegerArray beklenen, int nesneSayisi) {
+        int kayip = 0;
+        int uyusmayan = 0;
+        for (int i = 0; i < nesneSayisi; i++) {
+            NesneKaydi k = kume.bul(i);
+            if (k == null) kayip++;
+            else if (k.stabilite != beklenen.get(i)) uyusmayan++;
+        }
+        int listelenen = 0;
+        long son = -1;
+        for (List<NesneKaydi> sayfa = kume.listele(son, 4096); !sayfa.isEmpty(); sayfa = kume.listele(son, 4096)) {
+            listelenen += sayfa.size();
+            son = sayfa.get(sayfa.size() - 1).anahtar;
+        }
+        int toplam = kume.istatistik().toplam;
+        boolean basarili = kayip == 0 && uyusmayan == 0 && listelenen == nesneSayisi && toplam == nesneSayisi;
+        System.out.printf("Doğrulama: %d kayıp, %d uyuşmayan stabilite, %d listelenen, toplam %d -> %s%n",
+                kayip, uyusmayan, listelenen, toplam, basarili ? "OK" : "HATA");
+        return basarili;
+    }
+
+    private static boolean dengeli(KumeKoordinatoru kume) {
+        Collection<Integer> sayilar = kume.bolumDagilimi().values();
+        boolean basarili = Collections.max(sayilar) - Collections.min(sayilar) <= 1;
+        System.out.println("Bölüm dağılımı: " + kume.bolumDagilimi() + " -> " + (basarili ? "OK" : "HATA"));
+        return basarili;
+    }
+}
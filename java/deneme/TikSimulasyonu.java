@@ -0,0 +1,140 @@
+package cli;
+
+import ortak.*;
+
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+// ===============================
+// Zaman Adımlı Simülasyon
+// ===============================
+// Her tikte tüm envanterin stabilitesi tip ve tehlike seviyesine göre azalır;
+// kritik nesneler eşiğin altına düşünce otomatik soğutulur. Envanter sabit
+// boyutlu parçalara bölünüp paralel işlenir. Simülasyon çalışırken envanterin
+// tek sahibi simülasyondur. Kolon envanterinin satır çekirdeğini doğrudan
+// kullanan bir deneme düzeneğidir; CLI menüsüne bağlı değildir.
+//
+// Çalıştırma (-Pjmh paketinden): java -cp target/benchmarks.jar cli.TikSimulasyonu [nesne sayısı] [tik/sn] [süre sn]
+class TikSimulasyonu {
+
+    static final int PARCA_BOYUTU = 64 * 1024;
+
+    private final KolonEnvanter envanter;
+    private final double carpan;
+    private final double sogutmaEsigi;
+    private final ScheduledExecutorService zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "tik-zamanlayici");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> gorev;
+    private long periyotNanos;
+    private long[] parcaSonuclari = new long[0];
+
+    // Metrikler; yalnızca zamanlayıcı yazar
+    private long tikSayisi;
+    private long toplamNanos;
+    private long sonNanos;
+    private long enUzunNanos;
+    private long gecikenTik;
+    private long toplamCoken;
+    private long toplamSogutulan;
+
+    static class TikSonucu {
+        final int coken;
+        final int sogutulan;
+        final long sureNanos;
+
+        TikSonucu(int coken, int sogutulan, long sureNanos) {
+            this.coken = coken;
+            this.sogutulan = sogutulan;
+            this.sureNanos = sureNanos;
+        }
+    }
+
+    // carpan: tehlike seviyesi başına tik kaybı ölçeği (ör. 0.01 -> AntiMadde, tehlike 10: 2.5/tik)
+    TikSimulasyonu(KolonEnvanter envanter, double carpan, double sogutmaEsigi) {
+        this.envanter = envanter;
+        this.carpan = carpan;
+        this.sogutmaEsigi = sogutmaEsigi;
+    }
+
+    // Tek bir tik; zamanlayıcıdan ya da doğrudan (test/benchmark) çağrılabilir
+    synchronized TikSonucu tik() {
+        long baslangic = System.nanoTime();
+        int boyut = envanter.boyut();
+        int parcaSayisi = (boyut + PARCA_BOYUTU - 1) / PARCA_BOYUTU;
+        if (parcaSonuclari.length < parcaSayisi) parcaSonuclari = new long[parcaSayisi];
+        long[] sonuclar = parcaSonuclari;
+
+        IntStream.range(0, parcaSayisi).parallel().forEach(p -> {
+            int bas = p * PARCA_BOYUTU;
+            sonuclar[p] = envanter.tikUygula(bas, Math.min(bas + PARCA_BOYUTU, boyut), carpan, sogutmaEsigi);
+        });
+        // Çekirdek risk kovalarına dokunmaz; kovası değişen satırlar tek geçişte taşınır
+        envanter.riskKovalariniYenile();
+
+        int coken = 0;
+        int sogutulan = 0;
+        for (int p = 0; p < parcaSayisi; p++) {
+            coken += (int) (sonuclar[p] >>> 32);
+            sogutulan += (int) sonuclar[p];
+        }
+
+        long sure = System.nanoTime() - baslangic;
+        tikSayisi++;
+        toplamNanos += sure;
+        sonNanos = sure;
+        enUzunNanos = Math.max(enUzunNanos, sure);
+        if (periyotNanos > 0 && sure > periyotNanos) gecikenTik++;
+        toplamCoken += coken;
+        toplamSogutulan += sogutulan;
+        return new TikSonucu(coken, sogutulan, sure);
+    }
+
+    // Sabit hızda tik; bir tik periyodu aşarsa sonraki tik gecikir, üst üste binmez
+    synchronized void baslat(double tikHizi) {
+        if (gorev != null) throw new IllegalStateException("Simülasyon zaten çalışıyor!");
+        periyotNanos = (long) (1_000_000_000L / tikHizi);
+        gorev = zamanlayici.scheduleAtFixedRate(this::tik, 0, periyotNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void durdur() {
+        ScheduledFuture<?> g;
+        synchronized (this) {
+            g = gorev;
+            gorev = null;
+        }
+        if (g != null) g.cancel(false);
+    }
+
+    void kapat() {
+        durdur();
+        zamanlayici.shutdown();
+    }
+
+    synchronized String metrikOzeti() {
+        double ortalama = tikSayisi == 0 ? 0 : toplamNanos / (double) tikSayisi / 1_000_000.0;
+        return String.format("Tik: %d | Son: %.2f ms | Ort: %.2f ms | En uzun: %.2f ms | Geciken: %d | Çöken: %d | Soğutulan: %d",
+                tikSayisi, sonNanos / 1_000_000.0, ortalama, enUzunNanos / 1_000_000.0,
+                gecikenTik, toplamCoken, toplamSogutulan);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int nesneSayisi = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        double tikHizi = args.length > 1 ? Double.parseDouble(args[1]) : 10;
+        int sure = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        KolonEnvanter envanter = new KolonEnvanter(nesneSayisi);
+        new IsYukuUretici(42).kolonaEkle(envanter, nesneSayisi);
+
+        TikSimulasyonu simulasyon = new TikSimulasyonu(envanter, 0.01, KuantumNesnesi.UYARI_ESIGI);
+        System.out.printf("%d nesne, %.1f tik/sn, %d sn%n", nesneSayisi, tikHizi, sure);
+        simulasyon.baslat(tikHizi);
+        for (int i = 0; i < sure; i++) {
+            Thread.sleep(1000);
+            System.out.println(simulasyon.metrikOzeti());
+        }
+        simulasyon.kapat();
+    }
+}
@@ -0,0 +1,207 @@
+package cli;
+
+import ortak.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+// ===============================
+// Yük İstemcisi (kontrol sunucusu için)
+// ===============================
+// Kullanım: java -cp target/benchmarks.jar cli.YukIstemcisi [port] [bağlantı] [derinlik] [süre sn] [nesne]
+// Önce ADD ile çalışma kümesi kurulur ve her nesne bir kez COOL ile yoklanır:
+// soğutulabilenler kritik nesnelerdir. Ardından her bağlantı yanıt beklemeden
+// "derinlik" kadar isteği yolda tutar (%80 ANALYZE, %20 yalnızca kritiklere COOL).
+// Tek seçici iş parçacığı tüm bağlantıları sürer; sonunda işlem/s ve istek
+// başına gidiş-dönüş gecikmesi raporlanır.
+class YukIstemcisi {
+
+    private static final int TAMPON = 64 * 1024;
+    // Hazırlıkta tek seferde gönderilen istek; yanıtlar sunucunun çıkış sınırına sığar
+    private static final int HAZIRLIK_PARCASI = 4096;
+
+    private static class Baglanti {
+        final ByteBuffer giris = ByteBuffer.allocate(TAMPON);
+        final ByteBuffer cikis = ByteBuffer.allocate(TAMPON);
+        // Yoldaki isteklerin gönderim zamanları (FIFO halka)
+        final long[] gonderim;
+        int bas;
+        int yolda;
+
+        Baglanti(int derinlik) {
+            gonderim = new long[derinlik];
+        }
+    }
+
+    private final SplittableRandom rnd = new SplittableRandom(7);
+    private final GecikmeHistogrami gecikme = new GecikmeHistogrami();
+    private final long ilkAnahtar;
+    private final int nesneSayisi;
+    private final long[] kritikler;
+    private long tamam;
+    private long hata;
+
+    YukIstemcisi(long ilkAnahtar, int nesneSayisi, long[] kritikler) {
+        this.ilkAnahtar = ilkAnahtar;
+        this.nesneSayisi = nesneSayisi;
+        this.kritikler = kritikler;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7070;
+        int baglanti = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int derinlik = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int sure = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int nesne = args.length > 4 ? Integer.parseInt(args[4]) : 10_000;
+        InetSocketAddress adres = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+
+        YukIstemcisi istemci = hazirla(adres, nesne);
+        System.out.printf("%d nesne eklendi (ilk QN-%d, %d kritik); %d bağlantı x %d derinlik, %d sn%n",
+                nesne, istemci.ilkAnahtar, istemci.kritikler.length, baglanti, derinlik, sure);
+
+        long baslangic = System.nanoTime();
+        istemci.calistir(adres, baglanti, derinlik, sure * 1_000_000_000L);
+        istemci.rapor(System.nanoTime() - baslangic);
+    }
+
+    // Engelleyen tek bağlantıyla çalışma kümesini kurar ve kritik nesneleri bulur
+    private static YukIstemcisi hazirla(InetSocketAddress adres, int nesne) throws IOException {
+        try (Socket soket = new Socket(adres.getAddress(), adres.getPort())) {
+            BufferedReader okuyucu = new BufferedReader(new InputStreamReader(soket.getInputStream(), StandardCharsets.UTF_8));
+            Writer yazici = new BufferedWriter(new OutputStreamWriter(soket.getOutputStream(), StandardCharsets.UTF_8));
+
+            // ADD tek istekte en çok KontrolSunucusu.MAKS_EKLEME nesne kabul eder
+            long ilk = -1;
+            for (int eklenen = 0; eklenen < nesne; ) {
+                int adet = Math.min(nesne - eklenen, KontrolSunucusu.MAKS_EKLEME);
+                yazici.write("ADD " + adet + "\n");
+                yazici.flush();
+                String[] parca = okuyucu.readLine().split(" ");
+                if (parca.length < 3 || !parca[0].equals("OK")) {
+                    throw new IOException("Beklenmeyen yanıt: " + String.join(" ", parca));
+                }
+                if (ilk < 0) ilk = Long.parseLong(parca[1].substring(parca[1].indexOf('-') + 1));
+                eklenen += adet;
+            }
+
+            // Kritik olmayan nesneye COOL her zaman ERR döner; yük yalnızca kritiklere soğutma gönderir
+            long[] kritikler = new long[nesne];
+            int kritik = 0;
+            for (int bas = 0; bas < nesne; bas += HAZIRLIK_PARCASI) {
+                int son = Math.min(nesne, bas + HAZIRLIK_PARCASI);
+                for (int i = bas; i < son; i++) yazici.write("COOL QN-" + (ilk + i) + "\n");
+                yazici.flush();
+                for (int i = bas; i < son; i++) {
+                    if (okuyucu.readLine().startsWith("OK")) kritikler[kritik++] = ilk + i;
+                }
+            }
+            yazici.write("QUIT\n");
+            yazici.flush();
+            return new YukIstemcisi(ilk, nesne, Arrays.copyOf(kritikler, kritik));
+        }
+    }
+
+    void calistir(InetSocketAddress adres, int baglantiSayisi, int derinlik, long sureNanos) throws IOException {
+        try (Selector secici = Selector.open()) {
+            for (int i = 0; i < baglantiSayisi; i++) {
+                SocketChannel kanal = SocketChannel.open(adres);
+                kanal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                kanal.configureBlocking(false);
+                Baglanti b = new Baglanti(derinlik);
+                doldur(b);
+                kanal.register(secici, SelectionKey.OP_READ | SelectionKey.OP_WRITE, b);
+            }
+
+            long bitis = System.nanoTime() + sureNanos;
+            while (System.nanoTime() < bitis) {
+                secici.select(100);
+                Iterator<SelectionKey> it = secici.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey anahtar = it.next();
+                    it.remove();
+                    SocketChannel kanal = (SocketChannel) anahtar.channel();
+                    Baglanti b = (Baglanti) anahtar.attachment();
+                    if (anahtar.isReadable()) {
+                        if (kanal.read(b.giris) < 0) throw new IOException("Sunucu bağlantıyı kapattı");
+                        yanitlariIsle(b);
+                        doldur(b);
+                    }
+                    b.cikis.flip();
+                    kanal.write(b.cikis);
+                    b.cikis.compact();
+                    anahtar.interestOps(b.cikis.position() > 0
+                            ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+                            : SelectionKey.OP_READ);
+                }
+            }
+            for (SelectionKey anahtar : secici.keys()) {
+                anahtar.channel().close();
+            }
+        }
+    }
+
+    // Her yanıt tek satırdır; satır başına bir istek tamamlanır
+    private void yanitlariIsle(Baglanti b) {
+        ByteBuffer g = b.giris;
+        byte[] dizi = g.array();
+        long simdi = System.nanoTime();
+        int bas = 0;
+        for (int i = 0; i < g.position(); i++) {
+            if (dizi[i] != '\n') continue;
+            if (dizi[bas] == 'O') tamam++;
+            else hata++;
+            gecikme.kaydet(simdi - b.gonderim[b.bas]);
+            b.bas = (b.bas + 1) % b.gonderim.length;
+            b.yolda--;
+            bas = i + 1;
+        }
+        g.flip().position(bas);
+        g.compact();
+    }
+
+    // Boruyu derinliğe kadar yeni isteklerle doldurur
+    private void doldur(Baglanti b) {
+        long simdi = System.nanoTime();
+        while (b.yolda < b.gonderim.length && b.cikis.remaining() > 32) {
+            String istek;
+            long anahtar;
+            if (rnd.nextInt(10) < 8 || kritikler.length == 0) {
+                istek = "ANALYZE QN-";
+                anahtar = ilkAnahtar + rnd.nextInt(nesneSayisi);
+            } else {
+                istek = "COOL QN-";
+                anahtar = kritikler[rnd.nextInt(kritikler.length)];
+            }
+            b.cikis.put(istek.getBytes(StandardCharsets.US_ASCII));
+            b.cikis.put(Long.toString(anahtar).getBytes(StandardCharsets.US_ASCII));
+            b.cikis.put((byte) '\n');
+            b.gonderim[(b.bas + b.yolda) % b.gonderim.length] = simdi;
+            b.yolda++;
+        }
+    }
+
+    private void rapor(long sureNanos) {
+        long toplam = tamam + hata;
+        System.out.printf("%d istek (%d OK, %d ERR) %.1f sn içinde: %.0f işlem/s%n",
+                toplam, tamam, hata, sureNanos / 1e9, toplam / (sureNanos / 1e9));
+        System.out.printf("Gidiş-dönüş µs: p50 %.1f | p90 %.1f | p99 %.1f | p99.9 %.1f | maks %.1f%n",
+                gecikme.yuzdelik(50) / 1000.0, gecikme.yuzdelik(90) / 1000.0, gecikme.yuzdelik(99) / 1000.0,
+                gecikme.yuzdelik(99.9) / 1000.0, gecikme.maks() / 1000.0);
+    }
+}
@@ -0,0 +1,47 @@
+package gui;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
+import ortak.LogHatti;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// ===============================
+// Arayuz Log Hedefi
+// ===============================
+// Topluluk tek Platform.runLater ile eklenir; liste siniri asinca en eski
+// satirlar silinir. ListView yalnizca gorunen satirlari cizer.
+class ArayuzHedefi implements LogHatti.Hedef {
+    private final ListView<String> liste;
+    private final int sinir;
+    private List<String> bekleyen = new ArrayList<>();
+
+    ArayuzHedefi(ListView<String> liste, int sinir) {
+        this.liste = liste;
+        this.sinir = sinir;
+    }
+
+    @Override
+    public void yaz(String zaman, LogHatti.Seviye seviye, String mesaj) {
+        bekleyen.add("[" + zaman + "] " + seviye.onek + " " + mesaj);
+    }
+
+    @Override
+    public void bitir() {
+        List<String> satirlar = bekleyen;
+        bekleyen = new ArrayList<>();
+        Platform.runLater(() -> {
+            ObservableList<String> ogeler = liste.getItems();
+            int fazla = ogeler.size() + satirlar.size() - sinir;
+            if (fazla >= ogeler.size()) {
+                ogeler.setAll(satirlar.subList(satirlar.size() - Math.min(sinir, satirlar.size()), satirlar.size()));
+            } else {
+                if (fazla > 0) ogeler.remove(0, fazla);
+                ogeler.addAll(satirlar);
+            }
+            liste.scrollTo(ogeler.size() - 1);
+        });
+    }
+}
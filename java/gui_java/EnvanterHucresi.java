@@ -0,0 +1,135 @@
+package gui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import ortak.*;
+
+import java.util.Map;
+
+// ===============================
+// Envanter Hucresi (ListView)
+// ===============================
+// Kart dugumleri hucre basina bir kez olusturulur; ListView yalnizca gorunen
+// hucreleri uretir ve kaydirmada ayni hucreleri yeni nesnelerle yeniden kullanir.
+// Her hucre o an gosterdigi nesneyi kayda yazar; tek nesne degisince yalnizca
+// onun hucresi yeniden cizilir. Stil ve sabit metinler tip/deger basina bir kez
+// uretilir; cizimde yalnizca degisen stabilite metni olusturulur.
+class EnvanterHucresi extends ListCell<KuantumNesnesi> {
+
+    private static final String KART_STILI = "-fx-background-color: #0f3443; -fx-border-color: %s; " +
+            "-fx-border-width: 2; -fx-background-radius: 5; -fx-border-radius: 5;";
+    // Tip koduna gore
+    private static final String[] KART_STILLERI = new String[TipKayitDefteri.kodAraligi()];
+    private static final String[] TIP_METINLERI = new String[TipKayitDefteri.kodAraligi()];
+    // Tehlike 1-10
+    private static final String[] TEHLIKE_METINLERI = new String[11];
+    private static final String BAR_YUKSEK = "-fx-accent: #4ecdc4;";
+    private static final String BAR_ORTA = "-fx-accent: #ffb400;";
+    private static final String BAR_DUSUK = "-fx-accent: #ff6b6b;";
+
+    static {
+        for (NesneTipi tip : TipKayitDefteri.tipler()) {
+            KART_STILLERI[tip.kod()] = String.format(KART_STILI, tip.renk());
+            TIP_METINLERI[tip.kod()] = "[" + tip.ad() + "]";
+        }
+        for (int i = 1; i <= 10; i++) {
+            TEHLIKE_METINLERI[i] = "Tehlike Seviyesi: " + i + "/10";
+        }
+    }
+
+    private final VBox card = new VBox(10);
+    private final Label idLabel = new Label();
+    private final Label tipLabel = new Label();
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Label stabiliteLabel = new Label();
+    private final Label tehlikeLabel = new Label();
+    private final Label kritikLabel = new Label("[KRITIK MADDE]");
+    private final Map<KuantumNesnesi, EnvanterHucresi> gorunenHucreler;
+    // Son cizilen nesne ve stabilitesi; degismeyen metin yeniden uretilmez
+    private KuantumNesnesi cizilen;
+    private double cizilenStabilite = Double.NaN;
+    private final StringBuilder metin = new StringBuilder(24);
+
+    EnvanterHucresi(Map<KuantumNesnesi, EnvanterHucresi> gorunenHucreler) {
+        this.gorunenHucreler = gorunenHucreler;
+        card.setPadding(new Insets(15));
+
+        HBox header = new HBox();
+        header.setAlignment(Pos.CENTER_LEFT);
+        header.setSpacing(10);
+
+        idLabel.setFont(Font.font("Monospaced", FontWeight.BOLD, 13));
+        idLabel.setTextFill(Color.web("#00ff41"));
+
+        tipLabel.setFont(Font.font("Monospaced", 10));
+        tipLabel.setTextFill(Color.web("#00d9ff"));
+
+        header.getChildren().addAll(idLabel, tipLabel);
+
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        progressBar.setPrefHeight(20);
+
+        stabiliteLabel.setFont(Font.font("Monospaced", 11));
+        stabiliteLabel.setTextFill(Color.web("#00d9ff"));
+
+        tehlikeLabel.setFont(Font.font("Monospaced", 10));
+        tehlikeLabel.setTextFill(Color.web("#00d9ff"));
+
+        kritikLabel.setFont(Font.font("Monospaced", FontWeight.BOLD, 9));
+        kritikLabel.setTextFill(Color.web("#ff6b6b"));
+        kritikLabel.managedProperty().bind(kritikLabel.visibleProperty());
+
+        card.getChildren().addAll(header, stabiliteLabel, progressBar, tehlikeLabel, kritikLabel);
+
+        setStyle("-fx-background-color: transparent; -fx-padding: 7 20 7 20;");
+    }
+
+    @Override
+    protected void updateItem(KuantumNesnesi nesne, boolean empty) {
+        KuantumNesnesi onceki = getItem();
+        if (onceki != null) gorunenHucreler.remove(onceki, this);
+
+        super.updateItem(nesne, empty);
+        setText(null);
+
+        if (empty || nesne == null) {
+            setGraphic(null);
+            return;
+        }
+        gorunenHucreler.put(nesne, this);
+        ciz(nesne);
+    }
+
+    void yenile() {
+        if (getItem() != null) ciz(getItem());
+    }
+
+    private void ciz(KuantumNesnesi nesne) {
+        if (nesne != cizilen) {
+            cizilen = nesne;
+            cizilenStabilite = Double.NaN;
+            card.setStyle(KART_STILLERI[nesne.getTipKodu()]);
+            idLabel.setText(nesne.getId());
+            tipLabel.setText(TIP_METINLERI[nesne.getTipKodu()]);
+            kritikLabel.setVisible(nesne instanceof IKritik);
+        }
+
+        double stabilite = nesne.getStabilite();
+        if (stabilite != cizilenStabilite) {
+            cizilenStabilite = stabilite;
+            progressBar.setProgress(stabilite / 100.0);
+            progressBar.setStyle(stabilite >= 60 ? BAR_YUKSEK : stabilite >= 30 ? BAR_ORTA : BAR_DUSUK);
+            metin.setLength(0);
+            SayiBicimi.ondalik(metin.append("Stabilite: "), stabilite, 1).append('%');
+            stabiliteLabel.setText(metin.toString());
+        }
+        tehlikeLabel.setText(TEHLIKE_METINLERI[nesne.getTehlikeSeviyesi()]);
+
+        setGraphic(card);
+    }
+}
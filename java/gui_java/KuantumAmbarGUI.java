@@ -2,6 +2,8 @@ package gui;
 
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -11,161 +13,47 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
-
-// ===============================
-// Custom Exception
-// ===============================
-class KuantumCokusuException extends Exception {
-    private String nesneId;
-
-    public KuantumCokusuException(String id) {
-        super("KUANTUM COKUSU! Nesne patladi: " + id);
-        this.nesneId = id;
-    }
-
-    public String getNesneId() {
-        return nesneId;
-    }
-}
-
-// ===============================
-// Interface
-// ===============================
-interface IKritik {
-    void acilDurumSogutmasi();
-    default boolean isKritik() {
-        return true;
-    }
-}
-
-// ===============================
-// Abstract Class
-// ===============================
-abstract class KuantumNesnesi {
-    private String id;
-    private double stabilite;
-    private int tehlikeSeviyesi;
-
-    public KuantumNesnesi(String id, double stabilite, int tehlikeSeviyesi) {
-        this.id = id;
-        setStabilite(stabilite);
-        setTehlikeSeviyesi(tehlikeSeviyesi);
-    }
-
-    public String getId() {
-        return id;
-    }
-
-    public double getStabilite() {
-        return stabilite;
-    }
-
-    public void setStabilite(double stabilite) {
-        if (stabilite < 0) this.stabilite = 0;
-        else if (stabilite > 100) this.stabilite = 100;
-        else this.stabilite = stabilite;
-    }
-
-    public int getTehlikeSeviyesi() {
-        return tehlikeSeviyesi;
-    }
-
-    public void setTehlikeSeviyesi(int tehlikeSeviyesi) {
-        if (tehlikeSeviyesi < 1 || tehlikeSeviyesi > 10) {
-            throw new IllegalArgumentException("Tehlike seviyesi 1-10 arasi olmalidir!");
-        }
-        this.tehlikeSeviyesi = tehlikeSeviyesi;
-    }
-
-    protected void stabiliteKontrol() throws KuantumCokusuException {
-        if (stabilite <= 0) {
-            throw new KuantumCokusuException(id);
-        }
-    }
-
-    public String durumBilgisi() {
-        return String.format("ID: %s | Stabilite: %.1f | Tehlike: %d | Tip: %s",
-                id, stabilite, tehlikeSeviyesi, this.getClass().getSimpleName());
-    }
-
-    public abstract String analizEt() throws KuantumCokusuException;
-
-    public boolean isKritik() {
-        return this instanceof IKritik;
-    }
-
-    public String getTipAdi() {
-        return this.getClass().getSimpleName();
-    }
-}
-
-// ===============================
-// Concrete Classes
-// ===============================
-class VeriPaketi extends KuantumNesnesi {
-    public VeriPaketi(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
-    }
-
-    @Override
-    public String analizEt() throws KuantumCokusuException {
-        setStabilite(getStabilite() - 5);
-        stabiliteKontrol();
-        return "Veri icerigi okundu.";
-    }
-}
-
-class KaranlikMadde extends KuantumNesnesi implements IKritik {
-    public KaranlikMadde(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
-    }
+import ortak.*;
 
-    @Override
-    public String analizEt() throws KuantumCokusuException {
-        setStabilite(getStabilite() - 15);
-        stabiliteKontrol();
-        return "Karanlik madde analiz ediliyor...";
-    }
-
-    @Override
-    public void acilDurumSogutmasi() {
-        setStabilite(getStabilite() + 50);
-    }
-}
-
-class AntiMadde extends KuantumNesnesi implements IKritik {
-    public AntiMadde(String id, double stabilite, int tehlike) {
-        super(id, stabilite, tehlike);
-    }
-
-    @Override
-    public String analizEt() throws KuantumCokusuException {
-        setStabilite(getStabilite() - 25);
-        stabiliteKontrol();
-        return "EVRENIN DOKUSU TITRIYOR...";
-    }
-
-    @Override
-    public void acilDurumSogutmasi() {
-        setStabilite(getStabilite() + 50);
-    }
-}
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
 
 // ===============================
 // JavaFX GUI Application
 // ===============================
 public class KuantumAmbarGUI extends Application {
 
-    private List<KuantumNesnesi> envanter = new ArrayList<>();
-    private Random random = new Random();
-    private TextArea logArea;
-    private VBox inventoryBox;
+    private final SimulasyonMotoru motor = new SimulasyonMotoru(this::olaylariIsle);
+    // Sistem log hatti (konsola da yazar) arka planda toplar; gorunum son LOG_SINIRI satiri tutar
+    private final LogHatti log = LogHatti.sistem();
+    private static final int LOG_SINIRI = 1000;
+    private static final long LOG_DOSYA_BAYT = 10L << 20;
+    private static final int LOG_DOSYA_SAYISI = 5;
+    private ListView<String> logListesi;
+    private ListView<KuantumNesnesi> inventoryList;
+    private final ObservableList<KuantumNesnesi> envanterListesi = FXCollections.observableArrayList();
+    // Yalnizca ekranda gorunen nesneler ve hucreleri
+    private final Map<KuantumNesnesi, EnvanterHucresi> gorunenHucreler = new HashMap<>();
     private TextField idField;
+    private ComboBox<String> tipSecim;
+    private TextField tehlikeField;
+    private TextField stabiliteField;
     private Label toplamLabel;
     private Label kritikLabel;
+    private Label riskliLabel;
+    private TextField riskKField;
+    // Envanter sayfalama: gosterilen sayfanin imleci ve geri donus icin oncekiler
+    private ComboBox<EnvanterSorgusu.Siralama> siralamaSecim;
+    private Button oncekiSayfaButonu;
+    private Button sonrakiSayfaButonu;
+    private Label sayfaLabel;
+    private Predicate<KuantumNesnesi> sayfaFiltresi = TopluIslem.tumu();
+    private EnvanterSorgusu.Imlec buSayfa;
+    private EnvanterSorgusu.Imlec sonrakiSayfa;
+    // null ilk sayfanin imlecidir
+    private final List<EnvanterSorgusu.Imlec> oncekiSayfalar = new ArrayList<>();
 
     @Override
     public void start(Stage primaryStage) {
@@ -180,8 +68,8 @@ public class KuantumAmbarGUI extends Application {
         VBox leftPanel = createControlPanel();
         root.setLeft(leftPanel);
 
-        ScrollPane inventoryScroll = createInventoryPanel();
-        root.setCenter(inventoryScroll);
+        VBox inventoryPanel = createInventoryPanel();
+        root.setCenter(inventoryPanel);
 
         VBox logPanel = createLogPanel();
         root.setRight(logPanel);
@@ -191,6 +79,20 @@ public class KuantumAmbarGUI extends Application {
         primaryStage.show();
 
         logMesaj("Sistem baslatildi. Kuantum Ambari hazir!", "SUCCESS");
+
+        // --logDosyasi=<yol> verildiyse loglar ayrica donen dosyaya yazilir
+        String logDosyasi = getParameters().getNamed().get("logDosyasi");
+        if (logDosyasi != null) {
+            try {
+                log.hedefEkle(new LogHatti.DonenDosyaHedefi(Path.of(logDosyasi), LOG_DOSYA_BAYT, LOG_DOSYA_SAYISI));
+            } catch (IOException e) {
+                logMesaj("Log dosyasi acilamadi: " + e.getMessage(), "ERROR");
+            }
+        }
+
+        // --gunluk=<taban> verildiyse envanter gunlukten geri yuklenir ve kalici tutulur
+        String gunlukTabani = getParameters().getNamed().get("gunluk");
+        if (gunlukTabani != null) motor.gunlukAc(Path.of(gunlukTabani));
     }
 
     private VBox createHeader() {
@@ -234,7 +136,7 @@ public class KuantumAmbarGUI extends Application {
         idLabel.setTextFill(Color.WHITE);
 
         idField = new TextField();
-        idField.setPromptText("Ornek: QN-123");
+        idField.setPromptText("Ornek: QN-123 (bos = en riskli)");
         idField.setStyle("-fx-background-color: #0f3443; -fx-text-fill: #00ff41; " +
                 "-fx-prompt-text-fill: #006600; -fx-font-family: 'Monospaced';");
 
@@ -244,6 +146,39 @@ public class KuantumAmbarGUI extends Application {
         Button btnSogutma = createButton("Acil Durum Sogutmasi", "#aa96da", "#0f3443");
         btnSogutma.setOnAction(e -> acilSogutma());
 
+        riskKField = createFilterField("Kac nesne (varsayilan 5)");
+
+        Button btnRiskli = createButton("En Riskli Nesneleri Sogut", "#aa96da", "#0f3443");
+        btnRiskli.setOnAction(e -> enRiskliSogut());
+
+        Label topluLabel = new Label("Toplu Islem Filtresi:");
+        topluLabel.setFont(Font.font("Monospaced", 11));
+        topluLabel.setTextFill(Color.WHITE);
+
+        tipSecim = new ComboBox<>();
+        tipSecim.getItems().add("Tumu");
+        for (NesneTipi tip : TipKayitDefteri.tipler()) tipSecim.getItems().add(tip.ad());
+        tipSecim.setValue("Tumu");
+        tipSecim.setMaxWidth(Double.MAX_VALUE);
+
+        tehlikeField = createFilterField("En az tehlike (1-10)");
+        stabiliteField = createFilterField("Stabilite ust siniri / araligi (10-30)");
+
+        Button btnTopluAnaliz = createButton("Toplu Analiz", "#f38181", "#0f3443");
+        btnTopluAnaliz.setOnAction(e -> topluAnaliz());
+
+        Button btnTopluSogutma = createButton("Toplu Sogutma", "#aa96da", "#0f3443");
+        btnTopluSogutma.setOnAction(e -> topluSogutma());
+
+        CheckBox zincirSecim = new CheckBox("Zincirleme cokus (gercekci mod)");
+        zincirSecim.setFont(Font.font("Monospaced", 11));
+        zincirSecim.setTextFill(Color.WHITE);
+        zincirSecim.setOnAction(e -> {
+            motor.zincirModu(zincirSecim.isSelected());
+            logMesaj(zincirSecim.isSelected() ? "Gercekci mod: cokusler komsulara yayilir, sistem kapanmaz."
+                    : "Gercekci mod kapatildi.", "WARNING");
+        });
+
         Button btnCikis = createButton("Guvenli Cikis", "#ff6b6b", "white");
         btnCikis.setOnAction(e -> guvenliCikis());
 
@@ -253,30 +188,62 @@ public class KuantumAmbarGUI extends Application {
 
         toplamLabel = createStatusLabel("TOPLAM: 0");
         kritikLabel = createStatusLabel("KRITIK: 0");
+        riskliLabel = createStatusLabel("RISKLI: 0");
         Label durumLabel = createStatusLabel("DURUM: AKTIF");
         durumLabel.setTextFill(Color.web("#4ecdc4"));
 
-        statusBox.getChildren().addAll(toplamLabel, kritikLabel, durumLabel);
+        statusBox.getChildren().addAll(toplamLabel, kritikLabel, riskliLabel, durumLabel);
 
         panel.getChildren().addAll(title, btnEkle, btnListele, idLabel, idField,
-                btnAnaliz, btnSogutma, btnCikis, statusBox);
+                btnAnaliz, btnSogutma, riskKField, btnRiskli, topluLabel, tipSecim, tehlikeField, stabiliteField,
+                btnTopluAnaliz, btnTopluSogutma, zincirSecim, btnCikis, statusBox);
         return panel;
     }
 
-    private ScrollPane createInventoryPanel() {
-        inventoryBox = new VBox(15);
-        inventoryBox.setPadding(new Insets(20));
-        inventoryBox.setStyle("-fx-background-color: #1a1a2e;");
+    private VBox createInventoryPanel() {
+        VBox panel = new VBox(15);
+        panel.setPadding(new Insets(20, 0, 0, 0));
+        panel.setStyle("-fx-background-color: #1a1a2e;");
 
         Label title = new Label("ENVANTER LISTESI");
         title.setFont(Font.font("Monospaced", FontWeight.BOLD, 16));
         title.setTextFill(Color.web("#95e1d3"));
-        inventoryBox.getChildren().add(title);
-
-        ScrollPane scroll = new ScrollPane(inventoryBox);
-        scroll.setFitToWidth(true);
-        scroll.setStyle("-fx-background: #1a1a2e; -fx-background-color: #1a1a2e;");
-        return scroll;
+        title.setPadding(new Insets(0, 20, 0, 20));
+
+        Label empty = new Label("Envanter bos.");
+        empty.setTextFill(Color.web("#00d9ff"));
+        empty.setFont(Font.font("Monospaced", 12));
+
+        // Sanal liste: yalnizca gorunen kartlar icin dugum olusturulur
+        inventoryList = new ListView<>(envanterListesi);
+        inventoryList.setCellFactory(liste -> new EnvanterHucresi(gorunenHucreler));
+        inventoryList.setPlaceholder(empty);
+        inventoryList.setFocusTraversable(false);
+        inventoryList.setStyle("-fx-background-color: #1a1a2e; -fx-control-inner-background: #1a1a2e;");
+        VBox.setVgrow(inventoryList, Priority.ALWAYS);
+
+        siralamaSecim = new ComboBox<>();
+        siralamaSecim.getItems().addAll(EnvanterSorgusu.Siralama.values());
+        siralamaSecim.setValue(EnvanterSorgusu.Siralama.KIMLIK);
+        siralamaSecim.setOnAction(e -> envanterGoster());
+
+        oncekiSayfaButonu = new Button("< Onceki");
+        oncekiSayfaButonu.setOnAction(e -> oncekiSayfa());
+        oncekiSayfaButonu.setDisable(true);
+        sonrakiSayfaButonu = new Button("Sonraki >");
+        sonrakiSayfaButonu.setOnAction(e -> sonrakiSayfa());
+        sonrakiSayfaButonu.setDisable(true);
+
+        sayfaLabel = new Label();
+        sayfaLabel.setFont(Font.font("Monospaced", 11));
+        sayfaLabel.setTextFill(Color.web("#00d9ff"));
+
+        HBox sayfaCubugu = new HBox(10, siralamaSecim, oncekiSayfaButonu, sonrakiSayfaButonu, sayfaLabel);
+        sayfaCubugu.setAlignment(Pos.CENTER_LEFT);
+        sayfaCubugu.setPadding(new Insets(0, 20, 0, 20));
+
+        panel.getChildren().addAll(title, sayfaCubugu, inventoryList);
+        return panel;
     }
 
     private VBox createLogPanel() {
@@ -289,14 +256,13 @@ public class KuantumAmbarGUI extends Application {
         title.setFont(Font.font("Monospaced", FontWeight.BOLD, 14));
         title.setTextFill(Color.web("#ffb400"));
 
-        logArea = new TextArea();
-        logArea.setEditable(false);
-        logArea.setWrapText(true);
-        logArea.setPrefHeight(700);
-        logArea.setStyle("-fx-control-inner-background: #0f3443; -fx-text-fill: #00ff41; " +
+        logListesi = new ListView<>();
+        logListesi.setPrefHeight(700);
+        logListesi.setStyle("-fx-control-inner-background: #0f3443; -fx-text-fill: #00ff41; " +
                 "-fx-font-family: 'Monospaced'; -fx-font-size: 11;");
+        log.hedefEkle(new ArayuzHedefi(logListesi, LOG_SINIRI));
 
-        panel.getChildren().addAll(title, logArea);
+        panel.getChildren().addAll(title, logListesi);
         return panel;
     }
 
@@ -316,6 +282,14 @@ public class KuantumAmbarGUI extends Application {
         return btn;
     }
 
+    private TextField createFilterField(String prompt) {
+        TextField field = new TextField();
+        field.setPromptText(prompt);
+        field.setStyle("-fx-background-color: #0f3443; -fx-text-fill: #00ff41; " +
+                "-fx-prompt-text-fill: #006600; -fx-font-family: 'Monospaced';");
+        return field;
+    }
+
     private Label createStatusLabel(String text) {
         Label label = new Label(text);
         label.setFont(Font.font("Monospaced", FontWeight.BOLD, 13));
@@ -324,192 +298,185 @@ public class KuantumAmbarGUI extends Application {
     }
 
     private void logMesaj(String mesaj, String tip) {
-        String zaman = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        String prefix = switch (tip) {
-            case "ERROR" -> "[HATA]";
-            case "WARNING" -> "[UYARI]";
-            case "SUCCESS" -> "[BASARILI]";
-            default -> "[BILGI]";
+        LogHatti.Seviye seviye = switch (tip) {
+            case "ERROR" -> LogHatti.Seviye.HATA;
+            case "WARNING" -> LogHatti.Seviye.UYARI;
+            case "SUCCESS" -> LogHatti.Seviye.BASARILI;
+            default -> LogHatti.Seviye.BILGI;
         };
-        logArea.appendText(String.format("[%s] %s %s\n", zaman, prefix, mesaj));
+        log.yaz(seviye, mesaj);
     }
 
-    private void guncelleIstatistik() {
-        int toplam = envanter.size();
-        int kritik = (int) envanter.stream().filter(KuantumNesnesi::isKritik).count();
+    private void guncelleIstatistik(int toplam, int kritik, int riskli) {
         toplamLabel.setText("TOPLAM: " + toplam);
         kritikLabel.setText("KRITIK: " + kritik);
-    }
+        riskliLabel.setText("RISKLI: " + riskli);
+    }
+
+    // Motordan gelen olaylar toplu halde islenir; ayni nesne bir kez cizilir
+    private void olaylariIsle(List<MotorOlayi> olaylar) {
+        List<KuantumNesnesi> eklenenler = new ArrayList<>();
+        Set<KuantumNesnesi> guncellenenler = new LinkedHashSet<>();
+        boolean topluGuncelleme = false;
+        MotorOlayi sonIstatistik = null;
+        String cokus = null;
+
+        for (MotorOlayi olay : olaylar) {
+            switch (olay.tur) {
+                case EKLENDI -> eklenenler.add(olay.nesne);
+                case GUNCELLENDI -> guncellenenler.add(olay.nesne);
+                case TOPLU_GUNCELLEME -> topluGuncelleme = true;
+                case SAYFA -> {
+                    eklenenler.clear();
+                    sayfaGoster(olay.sayfa);
+                }
+                case ISTATISTIK -> sonIstatistik = olay;
+                case LOG -> logMesaj(olay.mesaj, olay.logTipi);
+                case COKUS -> {
+                    if (cokus == null) cokus = olay.mesaj;
+                }
+            }
+        }
 
-    private String rastgeleID() {
-        return "QN-" + random.nextInt(10000);
+        // Yeni nesneler yalnizca son sayfada ve filtreye uyuyorsa listeye eklenir
+        if (sonrakiSayfa == null) eklenenler.removeIf(sayfaFiltresi.negate());
+        else eklenenler.clear();
+        if (!eklenenler.isEmpty()) {
+            envanterListesi.addAll(eklenenler);
+            inventoryList.scrollTo(envanterListesi.size() - 1);
+        }
+        if (topluGuncelleme) {
+            gorunenleriYenile();
+        } else {
+            guncellenenler.forEach(this::nesneGuncelle);
+        }
+        if (sonIstatistik != null) {
+            guncelleIstatistik(sonIstatistik.toplam, sonIstatistik.kritik, sonIstatistik.riskli);
+        }
+        if (cokus != null) {
+            sistemCoktu(cokus);
+        }
     }
 
     private void yeniNesneEkle() {
-        try {
-            int tip = random.nextInt(3);
-            String id = rastgeleID();
-            double stabilite = 60 + random.nextInt(41);
-            int tehlike = 1 + random.nextInt(10);
-
-            KuantumNesnesi nesne;
-            if (tip == 0) nesne = new VeriPaketi(id, stabilite, tehlike);
-            else if (tip == 1) nesne = new KaranlikMadde(id, stabilite, tehlike);
-            else nesne = new AntiMadde(id, stabilite, tehlike);
-
-            envanter.add(nesne);
-            logMesaj("Yeni nesne eklendi: " + nesne.durumBilgisi(), "SUCCESS");
-            guncelleIstatistik();
-            envanterGoster();
-        } catch (Exception e) {
-            logMesaj("Hata: " + e.getMessage(), "ERROR");
-        }
+        motor.yeniNesneEkle();
     }
 
+    // Sol paneldeki filtre alanlari ve secili siralama ile ilk sayfa istenir
     private void envanterGoster() {
-        inventoryBox.getChildren().clear();
-
-        Label title = new Label("ENVANTER LISTESI");
-        title.setFont(Font.font("Monospaced", FontWeight.BOLD, 16));
-        title.setTextFill(Color.web("#95e1d3"));
-        inventoryBox.getChildren().add(title);
-
-        if (envanter.isEmpty()) {
-            Label empty = new Label("Envanter bos.");
-            empty.setTextFill(Color.web("#00d9ff"));
-            empty.setFont(Font.font("Monospaced", 12));
-            inventoryBox.getChildren().add(empty);
+        try {
+            sayfaFiltresi = topluFiltre();
+        } catch (Exception e) {
+            logMesaj("Hata: " + e.getMessage(), "ERROR");
             return;
         }
-
-        for (KuantumNesnesi nesne : envanter) {
-            VBox card = createInventoryCard(nesne);
-            inventoryBox.getChildren().add(card);
-        }
+        oncekiSayfalar.clear();
+        buSayfa = null;
+        sayfaIste();
     }
 
-    private VBox createInventoryCard(KuantumNesnesi nesne) {
-        VBox card = new VBox(10);
-        card.setPadding(new Insets(15));
-
-        String borderColor = switch (nesne.getTipAdi()) {
-            case "VeriPaketi" -> "#4ecdc4";
-            case "KaranlikMadde" -> "#f38181";
-            case "AntiMadde" -> "#ff6b6b";
-            default -> "#00ff41";
-        };
-
-        card.setStyle(String.format("-fx-background-color: #0f3443; -fx-border-color: %s; " +
-                        "-fx-border-width: 2; -fx-background-radius: 5; -fx-border-radius: 5;",
-                borderColor));
-
-        HBox header = new HBox();
-        header.setAlignment(Pos.CENTER_LEFT);
-        header.setSpacing(10);
-
-        Label idLabel = new Label(nesne.getId());
-        idLabel.setFont(Font.font("Monospaced", FontWeight.BOLD, 13));
-        idLabel.setTextFill(Color.web("#00ff41"));
-
-        Label tipLabel = new Label("[" + nesne.getTipAdi() + "]");
-        tipLabel.setFont(Font.font("Monospaced", 10));
-        tipLabel.setTextFill(Color.web("#00d9ff"));
-
-        header.getChildren().addAll(idLabel, tipLabel);
-
-        double stabilite = nesne.getStabilite();
-        ProgressBar progressBar = new ProgressBar(stabilite / 100.0);
-        progressBar.setMaxWidth(Double.MAX_VALUE);
-        progressBar.setPrefHeight(20);
+    private void sonrakiSayfa() {
+        if (sonrakiSayfa == null) return;
+        oncekiSayfalar.add(buSayfa);
+        buSayfa = sonrakiSayfa;
+        sayfaIste();
+    }
 
-        String barColor = stabilite >= 60 ? "#4ecdc4" : stabilite >= 30 ? "#ffb400" : "#ff6b6b";
-        progressBar.setStyle(String.format("-fx-accent: %s;", barColor));
+    private void oncekiSayfa() {
+        if (oncekiSayfalar.isEmpty()) return;
+        buSayfa = oncekiSayfalar.remove(oncekiSayfalar.size() - 1);
+        sayfaIste();
+    }
 
-        Label stabiliteLabel = new Label(String.format("Stabilite: %.1f%%", stabilite));
-        stabiliteLabel.setFont(Font.font("Monospaced", 11));
-        stabiliteLabel.setTextFill(Color.web("#00d9ff"));
+    private void sayfaIste() {
+        oncekiSayfaButonu.setDisable(true);
+        sonrakiSayfaButonu.setDisable(true);
+        motor.sayfaGetir(sayfaFiltresi, siralamaSecim.getValue(), buSayfa);
+    }
 
-        Label tehlikeLabel = new Label(String.format("Tehlike Seviyesi: %d/10", nesne.getTehlikeSeviyesi()));
-        tehlikeLabel.setFont(Font.font("Monospaced", 10));
-        tehlikeLabel.setTextFill(Color.web("#00d9ff"));
+    private void sayfaGoster(EnvanterSorgusu.Sayfa sayfa) {
+        envanterListesi.setAll(sayfa.nesneler);
+        inventoryList.scrollTo(0);
+        sonrakiSayfa = sayfa.sonraki;
+        oncekiSayfaButonu.setDisable(oncekiSayfalar.isEmpty());
+        sonrakiSayfaButonu.setDisable(sonrakiSayfa == null);
+        sayfaLabel.setText(String.format("Sayfa %d | %d nesne (kalan eslesen %d)",
+                oncekiSayfalar.size() + 1, sayfa.nesneler.size(), sayfa.kalan));
+    }
 
-        card.getChildren().addAll(header, stabiliteLabel, progressBar, tehlikeLabel);
+    // Gorunmeyen nesne icin yapilacak bir sey yok; gorunur oldugunda guncel cizilir
+    private void nesneGuncelle(KuantumNesnesi nesne) {
+        EnvanterHucresi hucre = gorunenHucreler.get(nesne);
+        if (hucre != null) hucre.yenile();
+    }
 
-        if (nesne.isKritik()) {
-            Label kritikLabel = new Label("[KRITIK MADDE]");
-            kritikLabel.setFont(Font.font("Monospaced", FontWeight.BOLD, 9));
-            kritikLabel.setTextFill(Color.web("#ff6b6b"));
-            card.getChildren().add(kritikLabel);
+    // Toplu islemler sonrasi yalnizca ekrandaki hucreler yeniden cizilir
+    private void gorunenleriYenile() {
+        for (EnvanterHucresi hucre : gorunenHucreler.values()) {
+            hucre.yenile();
         }
+    }
 
-        return card;
+    private String girilenId() {
+        String id = idField.getText().trim();
+        if (id.isEmpty()) {
+            logMesaj("Lutfen bir ID giriniz!", "WARNING");
+            return null;
+        }
+        return id;
     }
 
     private void nesneAnaliz() {
-        try {
-            String id = idField.getText().trim();
-            if (id.isEmpty()) {
-                logMesaj("Lutfen bir ID giriniz!", "WARNING");
-                return;
-            }
-
-            KuantumNesnesi nesne = envanter.stream()
-                    .filter(n -> n.getId().equals(id))
-                    .findFirst()
-                    .orElse(null);
-
-            if (nesne == null) {
-                logMesaj("Nesne bulunamadi: " + id, "ERROR");
-                return;
-            }
-
-            String mesaj = nesne.analizEt();
-            logMesaj("Analiz: " + mesaj, "SUCCESS");
-            logMesaj(nesne.durumBilgisi(), "SUCCESS");
-
-            if (nesne.getStabilite() < 30) {
-                logMesaj("UYARI: " + id + " kritik stabilite seviyesinde!", "WARNING");
-            }
+        String id = girilenId();
+        if (id != null) motor.analizEt(id);
+    }
 
-            envanterGoster();
+    // ID bos birakilirsa en riskli kritik nesne sogutulur
+    private void acilSogutma() {
+        String id = idField.getText().trim();
+        if (id.isEmpty()) motor.enRiskliSogut(1);
+        else motor.sogut(id);
+    }
 
-        } catch (KuantumCokusuException e) {
-            sistemCoktu(e.getMessage());
+    private void enRiskliSogut() {
+        try {
+            String k = riskKField.getText().trim();
+            motor.enRiskliSogut(k.isEmpty() ? 5 : Integer.parseInt(k));
         } catch (Exception e) {
             logMesaj("Hata: " + e.getMessage(), "ERROR");
         }
     }
 
-    private void acilSogutma() {
+    private void topluAnaliz() {
         try {
-            String id = idField.getText().trim();
-            if (id.isEmpty()) {
-                logMesaj("Lutfen bir ID giriniz!", "WARNING");
-                return;
-            }
+            motor.topluAnaliz(topluFiltre());
+        } catch (Exception e) {
+            logMesaj("Hata: " + e.getMessage(), "ERROR");
+        }
+    }
 
-            KuantumNesnesi nesne = envanter.stream()
-                    .filter(n -> n.getId().equals(id))
-                    .findFirst()
-                    .orElse(null);
+    private void topluSogutma() {
+        try {
+            motor.topluSogutma(topluFiltre());
+        } catch (Exception e) {
+            logMesaj("Hata: " + e.getMessage(), "ERROR");
+        }
+    }
 
-            if (nesne == null) {
-                logMesaj("Nesne bulunamadi: " + id, "ERROR");
-                return;
-            }
+    private Predicate<KuantumNesnesi> topluFiltre() {
+        NesneTipi tip = TipKayitDefteri.adIle(tipSecim.getValue());
+        Predicate<KuantumNesnesi> filtre = tip == null ? TopluIslem.tumu() : TopluIslem.tipKodu(tip.kod());
 
-            if (nesne instanceof IKritik) {
-                ((IKritik) nesne).acilDurumSogutmasi();
-                logMesaj("Acil sogutma uygulandi: " + id, "SUCCESS");
-                logMesaj(nesne.durumBilgisi(), "SUCCESS");
-                envanterGoster();
-            } else {
-                logMesaj("Bu nesne sogutulamaz! (IKritik degil)", "WARNING");
-            }
+        String tehlike = tehlikeField.getText().trim();
+        if (!tehlike.isEmpty()) {
+            filtre = filtre.and(TopluIslem.tehlikeEnAz(Integer.parseInt(tehlike)));
+        }
 
-        } catch (Exception e) {
-            logMesaj("Hata: " + e.getMessage(), "ERROR");
+        String stabilite = stabiliteField.getText().trim();
+        if (!stabilite.isEmpty()) {
+            filtre = filtre.and(TopluIslem.stabiliteFiltresi(stabilite));
         }
+        return filtre;
     }
 
     private void sistemCoktu(String mesaj) {
@@ -539,6 +506,12 @@ public class KuantumAmbarGUI extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        motor.kapat();
+        log.kapat();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
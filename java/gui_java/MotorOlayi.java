@@ -0,0 +1,69 @@
+package gui;
+
+import ortak.*;
+
+// ===============================
+// Motor Olayi
+// ===============================
+// Simulasyon motorunun arayuze bildirdigi degisiklikler
+class MotorOlayi {
+
+    enum Tur {
+        EKLENDI,          // nesne
+        GUNCELLENDI,      // nesne
+        TOPLU_GUNCELLEME,
+        SAYFA,            // sayfa
+        ISTATISTIK,       // toplam, kritik, riskli
+        LOG,              // mesaj, logTipi
+        COKUS             // mesaj
+    }
+
+    final Tur tur;
+    final KuantumNesnesi nesne;
+    final EnvanterSorgusu.Sayfa sayfa;
+    final String mesaj;
+    final String logTipi;
+    final int toplam;
+    final int kritik;
+    final int riskli;
+
+    private MotorOlayi(Tur tur, KuantumNesnesi nesne, EnvanterSorgusu.Sayfa sayfa,
+                       String mesaj, String logTipi, int toplam, int kritik, int riskli) {
+        this.tur = tur;
+        this.nesne = nesne;
+        this.sayfa = sayfa;
+        this.mesaj = mesaj;
+        this.logTipi = logTipi;
+        this.toplam = toplam;
+        this.kritik = kritik;
+        this.riskli = riskli;
+    }
+
+    static MotorOlayi eklendi(KuantumNesnesi nesne) {
+        return new MotorOlayi(Tur.EKLENDI, nesne, null, null, null, 0, 0, 0);
+    }
+
+    static MotorOlayi guncellendi(KuantumNesnesi nesne) {
+        return new MotorOlayi(Tur.GUNCELLENDI, nesne, null, null, null, 0, 0, 0);
+    }
+
+    static MotorOlayi topluGuncelleme() {
+        return new MotorOlayi(Tur.TOPLU_GUNCELLEME, null, null, null, null, 0, 0, 0);
+    }
+
+    static MotorOlayi sayfa(EnvanterSorgusu.Sayfa sayfa) {
+        return new MotorOlayi(Tur.SAYFA, null, sayfa, null, null, 0, 0, 0);
+    }
+
+    static MotorOlayi istatistik(int toplam, int kritik, int riskli) {
+        return new MotorOlayi(Tur.ISTATISTIK, null, null, null, null, toplam, kritik, riskli);
+    }
+
+    static MotorOlayi log(String mesaj, String logTipi) {
+        return new MotorOlayi(Tur.LOG, null, null, mesaj, logTipi, 0, 0, 0);
+    }
+
+    static MotorOlayi cokus(String mesaj) {
+        return new MotorOlayi(Tur.COKUS, null, null, mesaj, null, 0, 0, 0);
+    }
+}
@@ -0,0 +1,311 @@
+package gui;
+
+import javafx.application.Platform;
+import ortak.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+// ===============================
+// Simulasyon Motoru
+// ===============================
+// Envanter yalnizca motorun kendi is parcaciginda degistirilir. Arayuz komutlari
+// kuyruga birakir ve sonuclari olay olarak alir; biriken olaylar tek bir
+// Platform.runLater ile toplu halde FX is parcacigina aktarilir. Nesne ve sayac
+// guncellemeleri komutlardan degil, envanterin degisiklik akisindan uretilir.
+class SimulasyonMotoru {
+
+    interface Dinleyici {
+        // FX is parcaciginda cagrilir
+        void olaylar(List<MotorOlayi> olaylar);
+    }
+
+    private final EnvanterDeposu envanter = new EnvanterDeposu();
+    private final Random random = new Random();
+    private final ExecutorService yurutucu = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "simulasyon-motoru");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ConcurrentLinkedQueue<MotorOlayi> bekleyenler = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean aktarimPlanli = new AtomicBoolean();
+    private final Dinleyici dinleyici;
+    // gunlukAc cagrildiysa; yalnizca motor is parcaciginda atanir
+    private IslemGunlugu gunluk;
+    // Ilk eklemede envanterdeki en buyuk anahtardan sonra baslar; yalnizca motor is parcaciginda
+    private KimlikUreteci kimlikler;
+    static final long GUNLUK_FSYNC_MS = 10;
+    static final int SAYFA_BOYUTU = 500;
+    // Yalnizca motor is parcaciginda kullanilir
+    private final EnvanterSorgusu sorgu = new EnvanterSorgusu(SAYFA_BOYUTU);
+    static final int OLAY_KAPASITESI = 1 << 14;
+    // Bir partide bundan fazla nesne degisirse tek tek degil toplu yenilenir
+    static final int TOPLU_ESIK = 256;
+    private final DegisiklikAkisi akis = new DegisiklikAkisi(OLAY_KAPASITESI);
+    // Gercekci modda cokus sistemi kapatmaz, komsulara yayilir
+    private final ZincirlemeCokus zincir = new ZincirlemeCokus();
+
+    SimulasyonMotoru(Dinleyici dinleyici) {
+        this.dinleyici = dinleyici;
+        envanter.dinleyiciEkle(akis);
+        akis.abone("arayuz", new ArayuzKoprusu());
+        zincir.bagla(envanter);
+    }
+
+    // Herhangi bir is parcacigindan; sonraki komutlardan itibaren gecerlidir
+    void zincirModu(boolean acik) {
+        zincir.etkin(acik);
+    }
+
+    // ===============================
+    // Komutlar (herhangi bir is parcacigindan)
+    // ===============================
+    void yeniNesneEkle() {
+        calistir(() -> {
+            List<NesneTipi> tipler = TipKayitDefteri.tipler();
+            int tip = tipler.get(random.nextInt(tipler.size())).kod();
+            double stabilite = 60 + random.nextInt(41);
+            int tehlike = 1 + random.nextInt(10);
+
+            KuantumNesnesi nesne = TipKayitDefteri.olustur(tip, kimlikler().sonraki(), stabilite, tehlike);
+            envanter.ekle(nesne);
+            if (gunluk != null) gunluk.ekle(nesne);
+            yayinla(MotorOlayi.log("Yeni nesne eklendi: " + nesne.durumBilgisi(), "SUCCESS"));
+        });
+    }
+
+    // Gunluk yeniden oynatildiktan sonra cagrilir; ID'ler yuklenen nesnelerle cakismaz
+    private KimlikUreteci kimlikler() {
+        if (kimlikler == null) {
+            long enBuyuk = -1;
+            for (KuantumNesnesi n : envanter) enBuyuk = Math.max(enBuyuk, n.getAnahtar());
+            kimlikler = new KimlikUreteci(enBuyuk + 1);
+        }
+        return kimlikler;
+    }
+
+    // Kontrol noktasi ve gunluk yeniden oynatilir; sonraki her degisiklik gunluge eklenir
+    void gunlukAc(Path taban) {
+        calistir(() -> {
+            try {
+                long baslangic = System.nanoTime();
+                IslemGunlugu acilan = IslemGunlugu.ac(taban, GUNLUK_FSYNC_MS);
+                long kayit = acilan.yenidenOynat(envanter);
+                envanter.dinleyiciEkle(acilan);
+                gunluk = acilan;
+                yayinla(MotorOlayi.log(String.format("Gunlukten %d kayit yeniden oynatildi, %d nesne (%.1f ms)",
+                        kayit, envanter.boyut(), (System.nanoTime() - baslangic) / 1e6), "SUCCESS"));
+            } catch (IOException e) {
+                yayinla(MotorOlayi.log("Islem gunlugu acilamadi: " + e.getMessage(), "ERROR"));
+            }
+        });
+        anlikGoruntu();
+    }
+
+    void analizEt(String id) {
+        calistir(() -> {
+            KuantumNesnesi nesne = envanter.bul(id);
+            if (nesne == null) {
+                yayinla(MotorOlayi.log("Nesne bulunamadi: " + id, "ERROR"));
+                return;
+            }
+
+            try {
+                // Tipin kendi analiz mesaji sistem log hattina dogrudan yazilir
+                nesne.analizEt();
+                yayinla(MotorOlayi.log(nesne.durumBilgisi(), "SUCCESS"));
+
+                if (nesne.getStabilite() < KuantumNesnesi.UYARI_ESIGI) {
+                    yayinla(MotorOlayi.log("UYARI: " + id + " kritik stabilite seviyesinde!", "WARNING"));
+                }
+            } catch (KuantumCokusuException e) {
+                // Gercekci modda zincirin raporu komut bitince loglanir
+                yayinla(zincir.etkin() ? MotorOlayi.log(e.getMessage(), "ERROR") : MotorOlayi.cokus(e.getMessage()));
+            }
+        });
+    }
+
+    void sogut(String id) {
+        calistir(() -> {
+            KuantumNesnesi nesne = envanter.bul(id);
+            if (nesne == null) {
+                yayinla(MotorOlayi.log("Nesne bulunamadi: " + id, "ERROR"));
+                return;
+            }
+
+            if (nesne instanceof IKritik) {
+                ((IKritik) nesne).acilDurumSogutmasi();
+                yayinla(MotorOlayi.log("Acil sogutma uygulandi: " + id, "SUCCESS"));
+                yayinla(MotorOlayi.log(nesne.durumBilgisi(), "SUCCESS"));
+            } else {
+                yayinla(MotorOlayi.log("Bu nesne sogutulamaz! (IKritik degil)", "WARNING"));
+            }
+        });
+    }
+
+    void topluAnaliz(Predicate<KuantumNesnesi> filtre) {
+        calistir(() -> {
+            TopluIslem.Ozet ozet = TopluIslem.analizEt(envanter, filtre);
+            for (KuantumCokusuException e : ozet.cokusler) {
+                yayinla(MotorOlayi.log(e.getMessage(), "ERROR"));
+            }
+            yayinla(MotorOlayi.log("Toplu analiz: " + ozet, ozet.coken() > 0 ? "WARNING" : "SUCCESS"));
+        });
+    }
+
+    void topluSogutma(Predicate<KuantumNesnesi> filtre) {
+        calistir(() -> {
+            TopluIslem.Ozet ozet = TopluIslem.sogut(envanter, filtre);
+            yayinla(MotorOlayi.log("Toplu sogutma: " + ozet, "SUCCESS"));
+        });
+    }
+
+    void enRiskliSogut(int k) {
+        calistir(() -> {
+            List<KuantumNesnesi> hedefler = envanter.riskIndeksi().enRiskliKritikler(k);
+            if (hedefler.isEmpty()) {
+                yayinla(MotorOlayi.log("Sogutulacak kritik nesne yok.", "WARNING"));
+                return;
+            }
+            for (KuantumNesnesi nesne : hedefler) {
+                ((IKritik) nesne).acilDurumSogutmasi();
+                yayinla(MotorOlayi.log("Acil sogutma uygulandi: " + nesne.durumBilgisi(), "SUCCESS"));
+            }
+        });
+    }
+
+    void anlikGoruntu() {
+        sayfaGetir(TopluIslem.tumu(), EnvanterSorgusu.Siralama.KIMLIK, null);
+    }
+
+    // Envanter kopyalanmaz; yalnizca istenen sayfa arayuze gonderilir. Akis once
+    // bosaltilir: sayfadaki nesnelerin EKLENDI olaylari sayfadan sonra gelmez.
+    void sayfaGetir(Predicate<KuantumNesnesi> filtre, EnvanterSorgusu.Siralama siralama, EnvanterSorgusu.Imlec imlec) {
+        calistir(() -> {
+            EnvanterSorgusu.Sayfa sayfa = sorgu.filtre(filtre).siralama(siralama).sayfa(envanter, imlec);
+            akis.bekle();
+            yayinla(MotorOlayi.sayfa(sayfa));
+        });
+    }
+
+    // Bekleyen komutlar bitirilir, ardindan gunluk diske indirilip kapatilir
+    void kapat() {
+        yurutucu.shutdown();
+        try {
+            if (!yurutucu.awaitTermination(2, TimeUnit.SECONDS)) yurutucu.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        akis.close();
+        if (gunluk != null) {
+            try {
+                gunluk.close();
+            } catch (IOException e) {
+                System.err.println("Islem gunlugu kapatilamadi: " + e.getMessage());
+            }
+        }
+    }
+
+    // ===============================
+    // Ic yardimcilar
+    // ===============================
+    private void calistir(Runnable gorev) {
+        yurutucu.execute(() -> {
+            try {
+                gorev.run();
+                ZincirlemeCokus.Rapor rapor = zincir.yay();
+                if (rapor != null) yayinla(MotorOlayi.log(rapor.toString(), "ERROR"));
+                gunluguSikistir();
+            } catch (Exception e) {
+                yayinla(MotorOlayi.log("Hata: " + e.getMessage(), "ERROR"));
+            }
+        });
+    }
+
+    private void gunluguSikistir() {
+        if (gunluk == null || !gunluk.sikistirmaGerekli()) return;
+        try {
+            gunluk.sikistir(envanter);
+            yayinla(MotorOlayi.log("Islem gunlugu kontrol noktasina sikistirildi.", "SUCCESS"));
+        } catch (IOException e) {
+            yayinla(MotorOlayi.log("Gunluk sikistirilamadi: " + e.getMessage(), "ERROR"));
+        }
+    }
+
+    private void yayinla(MotorOlayi olay) {
+        bekleyenler.add(olay);
+        if (aktarimPlanli.compareAndSet(false, true)) {
+            Platform.runLater(this::aktar);
+        }
+    }
+
+    private void aktar() {
+        aktarimPlanli.set(false);
+        List<MotorOlayi> toplu = new ArrayList<>();
+        MotorOlayi olay;
+        while ((olay = bekleyenler.poll()) != null) {
+            toplu.add(olay);
+        }
+        if (!toplu.isEmpty()) dinleyici.olaylar(toplu);
+    }
+
+    // ===============================
+    // Arayuz koprusu (akis abonesi)
+    // ===============================
+    // Akistaki degisiklikleri parti sonunda arayuz olaylarina cevirir: ayni nesne
+    // bir kez guncellenir, buyuk partiler tek bir toplu yenilemeye indirilir.
+    // Sayaclar olaylardan artimli tutulur, envanter taranmaz. Yalnizca abone is
+    // parcaciginda calisir.
+    private final class ArayuzKoprusu implements DegisiklikAkisi.Abone {
+        private final List<KuantumNesnesi> eklenenler = new ArrayList<>();
+        private final Set<KuantumNesnesi> degisenler = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean toplu;
+        private int toplam;
+        private int kritik;
+
+        @Override
+        public void olay(DegisiklikAkisi.Tur tur, KuantumNesnesi nesne, double stabilite) {
+            switch (tur) {
+                case EKLENDI -> {
+                    toplam++;
+                    if (nesne instanceof IKritik) kritik++;
+                    if (eklenenler.size() < TOPLU_ESIK) eklenenler.add(nesne);
+                    else toplu = true;
+                }
+                case CIKARILDI -> {
+                    toplam--;
+                    if (nesne instanceof IKritik) kritik--;
+                }
+                case STABILITE, SOGUTULDU, COKTU -> {
+                    if (toplu) return;
+                    degisenler.add(nesne);
+                    if (degisenler.size() > TOPLU_ESIK) toplu = true;
+                }
+            }
+        }
+
+        @Override
+        public void partiSonu() {
+            if (toplu) {
+                // Yeni nesneler de dahil, ekrandakiler sonraki sayfa isteginde guncellenir
+                yayinla(MotorOlayi.topluGuncelleme());
+            } else {
+                for (KuantumNesnesi nesne : eklenenler) yayinla(MotorOlayi.eklendi(nesne));
+                for (KuantumNesnesi nesne : degisenler) yayinla(MotorOlayi.guncellendi(nesne));
+            }
+            eklenenler.clear();
+            degisenler.clear();
+            toplu = false;
+            yayinla(MotorOlayi.istatistik(toplam, kritik,
+                    envanter.riskIndeksi().esikAltindaSayisi((int) KuantumNesnesi.UYARI_ESIGI)));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ortak;
+
+import java.util.Arrays;
+
+// ===============================
+// Anahtar İndeksi (long -> int)
+// ===============================
+// Açık adreslemeli, doğrusal yoklamalı ilkel harita. Kutulama yapmaz;
+// anahtarlar negatif olmamalıdır.
+public class AnahtarIndeksi {
+
+    public static final int YOK = -1;
+    private static final long BOS = -1;
+
+    private long[] anahtarlar;
+    private int[] degerler;
+    private int boyut;
+    private int maske;
+
+    public AnahtarIndeksi(int beklenenBoyut) {
+        int kapasite = Integer.highestOneBit(Math.max(4, beklenenBoyut) * 2 - 1) << 1;
+        anahtarlar = new long[kapasite];
+        degerler = new int[kapasite];
+        Arrays.fill(anahtarlar, BOS);
+        maske = kapasite - 1;
+    }
+
+    // Önceki değeri, yoksa YOK döner
+    public int koy(long anahtar, int deger) {
+        if (anahtar < 0) throw new IllegalArgumentException("Geçersiz anahtar: " + anahtar);
+        if ((boyut + 1) * 2 > anahtarlar.length) buyut();
+        int i = yuva(anahtar);
+        while (anahtarlar[i] != BOS) {
+            if (anahtarlar[i] == anahtar) {
+                int onceki = degerler[i];
+                degerler[i] = deger;
+                return onceki;
+            }
+            i = (i + 1) & maske;
+        }
+        anahtarlar[i] = anahtar;
+        degerler[i] = deger;
+        boyut++;
+        return YOK;
+    }
+
+    public int al(long anahtar) {
+        int i = yuva(anahtar);
+        long k;
+        while ((k = anahtarlar[i]) != BOS) {
+            if (k == anahtar) return degerler[i];
+            i = (i + 1) & maske;
+        }
+        return YOK;
+    }
+
+    public boolean iceriyor(long anahtar) {
+        return al(anahtar) != YOK;
+    }
+
+    // Silinen değeri, yoksa YOK döner. Mezar taşı bırakılmaz: sonraki zincir
+    // elemanları boşalan yuvaya geri kaydırılır.
+    public int sil(long anahtar) {
+        int i = yuva(anahtar);
+        long k;
+        while ((k = anahtarlar[i]) != anahtar) {
+            if (k == BOS) return YOK;
+            i = (i + 1) & maske;
+        }
+        int onceki = degerler[i];
+        int bos = i;
+        for (int j = (i + 1) & maske; (k = anahtarlar[j]) != BOS; j = (j + 1) & maske) {
+            // Eleman, ideal yuvası ile kendi yeri arasında kalan boşluğa taşınabilir
+            if (((j - yuva(k)) & maske) >= ((j - bos) & maske)) {
+                anahtarlar[bos] = k;
+                degerler[bos] = degerler[j];
+                bos = j;
+            }
+        }
+        anahtarlar[bos] = BOS;
+        boyut--;
+        return onceki;
+    }
+
+    int boyut() {
+        return boyut;
+    }
+
+    private int yuva(long anahtar) {
+        long h = anahtar * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & maske;
+    }
+
+    private void buyut() {
+        long[] eskiAnahtarlar = anahtarlar;
+        int[] eskiDegerler = degerler;
+        anahtarlar = new long[eskiAnahtarlar.length * 2];
+        degerler = new int[eskiDegerler.length * 2];
+        Arrays.fill(anahtarlar, BOS);
+        maske = anahtarlar.length - 1;
+        boyut = 0;
+        for (int i = 0; i < eskiAnahtarlar.length; i++) {
+            if (eskiAnahtarlar[i] != BOS) koy(eskiAnahtarlar[i], eskiDegerler[i]);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ortak;
+
+// ===============================
+// Analiz Sonucu
+// ===============================
+public enum AnalizSonucu {
+    TAMAM,
+    UYARI,  // stabilite UYARI_ESIGI altında
+    COKTU   // bu analiz nesneyi çökertti
+}
@@ -0,0 +1,16 @@
+package ortak;
+
+// ===============================
+// AntiMadde (En Tehlikeli)
+// ===============================
+public class AntiMadde extends KuantumNesnesi implements IKritik {
+
+    public AntiMadde(long anahtar, double stabilite, int tehlike) {
+        super(TipKayitDefteri.ANTI_MADDE, anahtar, stabilite, tehlike);
+    }
+
+    @Override
+    public void acilDurumSogutmasi() {
+        sogutmaUygula();
+    }
+}
@@ -0,0 +1,233 @@
+package ortak;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// ===============================
+// Değişiklik Akışı (olay halkası)
+// ===============================
+// Envanter değişikliklerini (ekleme, çıkarma, stabilite, soğutma, çöküş) sabit
+// boyutlu halkaya yazar; her abone kendi iş parçacığında olayları sırayla ve
+// toplu halde okur. Yuvalar önceden ayrılmış dizilerdir, olay başına nesne
+// oluşturulmaz. Log hattının aksine olay düşürülmez: en yavaş abone halkanın
+// bir tur gerisindeyse üretici yer açılana kadar bekler (geri basınç). Abone
+// yoksa yayınlama hiçbir şey yapmaz.
+public class DegisiklikAkisi implements StabiliteDinleyicisi, AutoCloseable {
+
+    public enum Tur {
+        EKLENDI,
+        CIKARILDI,
+        STABILITE,
+        SOGUTULDU,
+        COKTU
+    }
+
+    // Abonenin iş parçacığında çağrılır; nesne ve stabilite yayın anındaki değerlerdir
+    public interface Abone {
+        void olay(Tur tur, KuantumNesnesi nesne, double stabilite);
+
+        // Eldeki olaylar bitince bir kez; toplu işler (yenileme, yazma) burada yapılır
+        default void partiSonu() {
+        }
+    }
+
+    private static final int PARTI = 1024;
+
+    private final int maske;
+    private final AtomicLongArray yayinlanan;
+    private final Tur[] turler;
+    private final KuantumNesnesi[] nesneler;
+    private final double[] stabiliteler;
+
+    private final AtomicLong yazmaSirasi = new AtomicLong();
+    private volatile AboneIsi[] aboneler = new AboneIsi[0];
+    // Üreticilerin son gördüğü en yavaş abone sırası; her olayda yeniden hesaplanmaz
+    private volatile long enAzIslenen;
+    private final LongAdder beklemeler = new LongAdder();
+    private final LongAdder kacirilan = new LongAdder();
+    private volatile boolean kapali;
+
+    public DegisiklikAkisi(int kapasite) {
+        int k = Integer.highestOneBit(Math.max(2, kapasite) * 2 - 1);
+        maske = k - 1;
+        yayinlanan = new AtomicLongArray(k);
+        for (int i = 0; i < k; i++) yayinlanan.set(i, -1);
+        turler = new Tur[k];
+        nesneler = new KuantumNesnesi[k];
+        stabiliteler = new double[k];
+    }
+
+    // Abone yalnızca bundan sonraki olayları görür
+    public synchronized void abone(String ad, Abone abone) {
+        if (kapali) throw new IllegalStateException("Değişiklik akışı kapalı");
+        AboneIsi is = new AboneIsi(ad, abone, yazmaSirasi.get());
+        AboneIsi[] yeni = Arrays.copyOf(aboneler, aboneler.length + 1);
+        yeni[yeni.length - 1] = is;
+        enAzIslenen = Math.min(enAzIslenen, is.islenen);
+        aboneler = yeni;
+        is.start();
+    }
+
+    // ===============================
+    // Üretici tarafı (değişikliği yapan iş parçacığı)
+    // ===============================
+    @Override
+    public void stabiliteDegisti(KuantumNesnesi nesne) {
+        yayinla(Tur.STABILITE, nesne);
+    }
+
+    @Override
+    public void eklendi(KuantumNesnesi nesne) {
+        yayinla(Tur.EKLENDI, nesne);
+    }
+
+    @Override
+    public void cikarildi(KuantumNesnesi nesne) {
+        yayinla(Tur.CIKARILDI, nesne);
+    }
+
+    @Override
+    public void sogutuldu(KuantumNesnesi nesne) {
+        yayinla(Tur.SOGUTULDU, nesne);
+    }
+
+    @Override
+    public void coktu(KuantumNesnesi nesne) {
+        yayinla(Tur.COKTU, nesne);
+    }
+
+    private void yayinla(Tur tur, KuantumNesnesi nesne) {
+        if (aboneler.length == 0 || kapali) return;
+        long sira = yazmaSirasi.getAndIncrement();
+        // Yuva, bir tur önceki olay tüm abonelerce okunduysa yeniden yazılabilir
+        long gereken = sira - maske;
+        if (enAzIslenen < gereken) yerBekle(gereken);
+
+        int i = (int) sira & maske;
+        turler[i] = tur;
+        nesneler[i] = nesne;
+        stabiliteler[i] = nesne.getStabilite();
+        yayinlanan.set(i, sira);
+    }
+
+    private void yerBekle(long gereken) {
+        beklemeler.increment();
+        int deneme = 0;
+        long enAz;
+        while ((enAz = enAzIslenen()) < gereken && !kapali) {
+            if (++deneme < 100) Thread.onSpinWait();
+            else LockSupport.parkNanos(10_000);
+        }
+        enAzIslenen = enAz;
+    }
+
+    private long enAzIslenen() {
+        long enAz = Long.MAX_VALUE;
+        for (AboneIsi a : aboneler) enAz = Math.min(enAz, a.islenen);
+        return enAz;
+    }
+
+    // ===============================
+    // Durum
+    // ===============================
+    public long olaySayisi() {
+        return yazmaSirasi.get();
+    }
+
+    public int aboneSayisi() {
+        return aboneler.length;
+    }
+
+    // Üreticinin halka dolu olduğu için beklediği yayın sayısı
+    public long beklemeSayisi() {
+        return beklemeler.sum();
+    }
+
+    // Şu ana kadar yayınlanan olaylar tüm abonelerce işlenene kadar bekler
+    public void bekle() {
+        long hedef = yazmaSirasi.get();
+        for (AboneIsi a : aboneler) {
+            while (a.islenen < hedef && a.isAlive()) {
+                LockSupport.parkNanos(50_000);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        bekle();
+        kapali = true;
+        for (AboneIsi a : aboneler) {
+            try {
+                a.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long k = kacirilan.sum();
+        if (k > 0) LogHatti.sistem().uyari("Değişiklik akışı: abonelerin kaçırdığı olay sayısı " + k);
+    }
+
+    // ===============================
+    // Abone iş parçacığı
+    // ===============================
+    private final class AboneIsi extends Thread {
+        private final Abone abone;
+        // Okunacak sonraki sıra; üreticiler bunu geri basınç için izler
+        volatile long islenen;
+
+        AboneIsi(String ad, Abone abone, long baslangic) {
+            super("akis-" + ad);
+            setDaemon(true);
+            this.abone = abone;
+            this.islenen = baslangic;
+        }
+
+        @Override
+        public void run() {
+            long sonraki = islenen;
+            int bos = 0;
+            while (true) {
+                int okunan = 0;
+                while (okunan < PARTI) {
+                    int i = (int) sonraki & maske;
+                    long y = yayinlanan.get(i);
+                    if (y != sonraki) {
+                        // Abone kayıt anında yazılmakta olan bir tur ezildiyse atlanır
+                        if (y > sonraki) {
+                            kacirilan.add(y - maske - sonraki);
+                            sonraki = y - maske;
+                        }
+                        break;
+                    }
+                    try {
+                        abone.olay(turler[i], nesneler[i], stabiliteler[i]);
+                    } catch (RuntimeException e) {
+                        LogHatti.sistem().hata(getName() + ": " + e.getMessage());
+                    }
+                    sonraki++;
+                    okunan++;
+                }
+
+                if (okunan > 0) {
+                    try {
+                        abone.partiSonu();
+                    } catch (RuntimeException e) {
+                        LogHatti.sistem().hata(getName() + ": " + e.getMessage());
+                    }
+                    islenen = sonraki;
+                    bos = 0;
+                } else if (kapali && sonraki >= yazmaSirasi.get()) {
+                    return;
+                } else if (++bos < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ortak;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// ===============================
+// Dinleyici Listesi
+// ===============================
+// Envanterin nesnelere atadığı tek dinleyici: stabilite önce risk indeksine,
+// sonra tüm olaylar eklenen dinleyicilere iletilir
+public class DinleyiciListesi implements StabiliteDinleyicisi {
+
+    private final RiskIndeksi riskIndeksi;
+    private final List<StabiliteDinleyicisi> dinleyiciler = new CopyOnWriteArrayList<>();
+
+    public DinleyiciListesi(RiskIndeksi riskIndeksi) {
+        this.riskIndeksi = riskIndeksi;
+    }
+
+    public void ekle(StabiliteDinleyicisi dinleyici) {
+        dinleyiciler.add(dinleyici);
+    }
+
+    // Risk indeksi dışında dinleyici yoksa; bildirim hazırlığı atlanabilir
+    public boolean bos() {
+        return dinleyiciler.isEmpty();
+    }
+
+    @Override
+    public void stabiliteDegisti(KuantumNesnesi nesne) {
+        riskIndeksi.stabiliteDegisti(nesne);
+        for (StabiliteDinleyicisi d : dinleyiciler) d.stabiliteDegisti(nesne);
+    }
+
+    @Override
+    public void eklendi(KuantumNesnesi nesne) {
+        for (StabiliteDinleyicisi d : dinleyiciler) d.eklendi(nesne);
+    }
+
+    @Override
+    public void cikarildi(KuantumNesnesi nesne) {
+        for (StabiliteDinleyicisi d : dinleyiciler) d.cikarildi(nesne);
+    }
+
+    @Override
+    public void sogutuldu(KuantumNesnesi nesne) {
+        for (StabiliteDinleyicisi d : dinleyiciler) d.sogutuldu(nesne);
+    }
+
+    @Override
+    public void coktu(KuantumNesnesi nesne) {
+        for (StabiliteDinleyicisi d : dinleyiciler) d.coktu(nesne);
+    }
+}
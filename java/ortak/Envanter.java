@@ -0,0 +1,82 @@
+package ortak;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+// ===============================
+// Envanter Arayüzü
+// ===============================
+public interface Envanter extends Iterable<KuantumNesnesi> {
+
+    // Aynı ID ile ikinci ekleme IllegalArgumentException fırlatır
+    void ekle(KuantumNesnesi nesne);
+
+    // Toplu ekleme: eklenemeyen (aynı ID) nesneler atlanır ve döner, diğerleri eklenir
+    default List<KuantumNesnesi> topluEkle(List<KuantumNesnesi> nesneler) {
+        List<KuantumNesnesi> reddedilen = new ArrayList<>();
+        for (KuantumNesnesi n : nesneler) {
+            try {
+                ekle(n);
+            } catch (IllegalArgumentException e) {
+                reddedilen.add(n);
+            }
+        }
+        return reddedilen;
+    }
+
+    // Aramalar NesneKimligi anahtarıyla yapılır
+    KuantumNesnesi cikar(long anahtar);
+
+    KuantumNesnesi bul(long anahtar);
+
+    boolean iceriyor(long anahtar);
+
+    // Metin ID ("QN-123") ara String oluşturmadan anahtara çevrilir; geçersizse bulunamaz
+    default KuantumNesnesi cikar(CharSequence id) {
+        long anahtar = NesneKimligi.coz(id);
+        return anahtar == NesneKimligi.YOK ? null : cikar(anahtar);
+    }
+
+    default KuantumNesnesi bul(CharSequence id) {
+        long anahtar = NesneKimligi.coz(id);
+        return anahtar == NesneKimligi.YOK ? null : bul(anahtar);
+    }
+
+    default boolean iceriyor(CharSequence id) {
+        long anahtar = NesneKimligi.coz(id);
+        return anahtar != NesneKimligi.YOK && iceriyor(anahtar);
+    }
+
+    // Tip koduna göre (TipKayitDefteri); eklenti tipleri aynı sınıfı paylaşsa da ayrı sayılır.
+    // Kayıtlı olmayan kod IllegalArgumentException fırlatır.
+    int tipSayisi(int tipKodu);
+
+    int kritikSayisi();
+
+    // Stabilite değişikliklerini izleyen "en riskli" indeksi
+    RiskIndeksi riskIndeksi();
+
+    // Risk indeksinden sonra çağrılır; çağrı değişikliği yapan iş parçacığında yapılır.
+    // Ekleme ve çıkarma da bu dinleyicilere bildirilir.
+    void dinleyiciEkle(StabiliteDinleyicisi dinleyici);
+
+    int boyut();
+
+    // Nesne üzerindeki işlemi (analiz, soğutma) nesnenin sahibi olan iş parçacığında
+    // çalıştırıp sonucunu döner. Parçalı envanter işlemi sahip parçaya gönderir.
+    default <T> T sahibinde(KuantumNesnesi nesne, Function<KuantumNesnesi, T> islem) {
+        return islem.apply(nesne);
+    }
+
+    // Listedeki her nesne için işlemi sahibi olan iş parçacığında çalıştırır; işleme
+    // nesnenin listedeki sırası da verilir. Parçalı envanter nesneleri parçalarına
+    // böler ve her parçaya tek görev gönderir; hepsi bitince döner.
+    default void sahiplerinde(List<KuantumNesnesi> nesneler, ObjIntConsumer<KuantumNesnesi> islem) {
+        for (int i = 0; i < nesneler.size(); i++) islem.accept(nesneler.get(i), i);
+    }
+
+    default boolean isEmpty() {
+        return boyut() == 0;
+    }
+}
@@ -0,0 +1,90 @@
+package ortak;
+
+import java.util.*;
+
+// ===============================
+// Envanter Deposu (ID indeksli, tip sayaçlı)
+// ===============================
+public class EnvanterDeposu implements Envanter {
+
+    // Birincil indeks: anahtar -> nesne (ekleme sırası, çıkarmada son nesne yer değiştirir)
+    private final NesneHaritasi idIndeksi = new NesneHaritasi(16);
+    // Tip kodu -> nesne sayısı
+    private final int[] tipSayilari = new int[TipKayitDefteri.kodAraligi()];
+    private int kritikSayisi;
+    private final RiskIndeksi riskIndeksi = new RiskIndeksi();
+    // Nesnelere atanan tek dinleyici: önce risk indeksi, sonra eklenen dinleyiciler
+    private final DinleyiciListesi yayici = new DinleyiciListesi(riskIndeksi);
+
+    @Override
+    public void ekle(KuantumNesnesi nesne) {
+        if (!idIndeksi.ekle(nesne)) {
+            throw new IllegalArgumentException("Bu ID zaten mevcut: " + nesne.getId());
+        }
+        tipSayilari[nesne.getTipKodu()]++;
+        if (nesne instanceof IKritik) kritikSayisi++;
+        riskIndeksi.ekle(nesne);
+        nesne.setDinleyici(yayici);
+        yayici.eklendi(nesne);
+    }
+
+    @Override
+    public KuantumNesnesi cikar(long anahtar) {
+        KuantumNesnesi nesne = idIndeksi.cikar(anahtar);
+        if (nesne == null) return null;
+        tipSayilari[nesne.getTipKodu()]--;
+        if (nesne instanceof IKritik) kritikSayisi--;
+        nesne.setDinleyici(null);
+        riskIndeksi.cikar(nesne);
+        yayici.cikarildi(nesne);
+        return nesne;
+    }
+
+    @Override
+    public KuantumNesnesi bul(long anahtar) {
+        return idIndeksi.al(anahtar);
+    }
+
+    @Override
+    public boolean iceriyor(long anahtar) {
+        return idIndeksi.iceriyor(anahtar);
+    }
+
+    @Override
+    public int tipSayisi(int tipKodu) {
+        if (!TipKayitDefteri.gecerli(tipKodu)) {
+            throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        }
+        return tipSayilari[tipKodu];
+    }
+
+    @Override
+    public int kritikSayisi() {
+        return kritikSayisi;
+    }
+
+    @Override
+    public RiskIndeksi riskIndeksi() {
+        return riskIndeksi;
+    }
+
+    @Override
+    public void dinleyiciEkle(StabiliteDinleyicisi dinleyici) {
+        yayici.ekle(dinleyici);
+    }
+
+    @Override
+    public int boyut() {
+        return idIndeksi.boyut();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return idIndeksi.boyut() == 0;
+    }
+
+    @Override
+    public Iterator<KuantumNesnesi> iterator() {
+        return idIndeksi.iterator();
+    }
+}
@@ -0,0 +1,230 @@
+package ortak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+// ===============================
+// Envanter Sorgusu (akışlı, sayfalı)
+// ===============================
+// Envanteri sıralamadan ve kopyalamadan tarar: her sayfa için imleçten sonra
+// gelen eşleşmelerden en küçük "sayfa boyutu" kadarı sınırlı bir yığında tutulur
+// (O(n log k)). İmleç son satırın sıralama değeri ve anahtarıdır; sayfalar arasında
+// eklenen/silinen nesneler sayfalamayı bozmaz. Yığın dizileri sorgu nesnesinde
+// yeniden kullanılır; bir sorgu aynı anda tek iş parçacığından kullanılmalıdır.
+//
+// Sınır: sayfalar anlık görüntü değildir, her sayfa o anki değerlerle taranır.
+// KIMLIK sıralaması (anahtar değişmez) her satırı tam bir kez verir. Stabilite
+// sıralamalarında sayfalar arasında stabilitesi değişen nesne yeni değerine göre
+// yerleşir: imlecin önüne geçerse atlanır, arkasına geçerse yeniden listelenir.
+// Tehlike sıralaması için de setTehlikeSeviyesi aynı etkiyi yapar. Tam bir kez
+// gerekiyorsa (ör. dışa aktarma) KIMLIK sıralaması kullanılmalıdır.
+public class EnvanterSorgusu {
+
+    public enum Siralama {
+        KIMLIK,             // ID anahtarı (QN-2, QN-10 sırası)
+        STABILITE_ARTAN,    // en riskli önce
+        STABILITE_AZALAN,
+        TEHLIKE_AZALAN
+    }
+
+    // Sonraki sayfanın başlangıcı: (değer, anahtar) sırasında bu satırdan sonraki
+    // satırlar. Değer imleç oluşturulduğu andaki sıralama değeridir (bkz. Sınır).
+    public static final class Imlec {
+        final double deger;
+        final long anahtar;
+
+        private Imlec(double deger, long anahtar) {
+            this.deger = deger;
+            this.anahtar = anahtar;
+        }
+
+        // KIMLIK sıralamasında bu anahtardan sonraki satırlar
+        public static Imlec anahtardan(long anahtar) {
+            return new Imlec(0, anahtar);
+        }
+    }
+
+    public static final class Sayfa {
+        public final List<KuantumNesnesi> nesneler;
+        // null ise son sayfadır
+        public final Imlec sonraki;
+        // Bu sayfa dahil imleçten sonraki eşleşme sayısı
+        public final int kalan;
+
+        private Sayfa(List<KuantumNesnesi> nesneler, Imlec sonraki, int kalan) {
+            this.nesneler = nesneler;
+            this.sonraki = sonraki;
+            this.kalan = kalan;
+        }
+    }
+
+    private Predicate<KuantumNesnesi> filtre = TopluIslem.tumu();
+    private Siralama siralama = Siralama.KIMLIK;
+
+    // Maks-yığın: kök sayfadaki en büyük (deger, anahtar) satırıdır
+    private double[] degerler;
+    private KuantumNesnesi[] nesneler;
+    private long[] anahtarlar;
+    private int boyut;
+    private int kalan;
+
+    public EnvanterSorgusu(int sayfaBoyutu) {
+        if (sayfaBoyutu < 1) throw new IllegalArgumentException("Geçersiz sayfa boyutu: " + sayfaBoyutu);
+        degerler = new double[sayfaBoyutu];
+        nesneler = new KuantumNesnesi[sayfaBoyutu];
+        anahtarlar = new long[sayfaBoyutu];
+    }
+
+    public EnvanterSorgusu filtre(Predicate<KuantumNesnesi> filtre) {
+        this.filtre = filtre;
+        return this;
+    }
+
+    public EnvanterSorgusu siralama(Siralama siralama) {
+        this.siralama = siralama;
+        return this;
+    }
+
+    // Aynı filtre, sıralama ve sayfa boyutuyla bağımsız sorgu (başka iş parçacığı için)
+    public EnvanterSorgusu kopya() {
+        return new EnvanterSorgusu(degerler.length).filtre(filtre).siralama(siralama);
+    }
+
+    int sayfaBoyutu() {
+        return degerler.length;
+    }
+
+    // İlk sayfa için imlec = null
+    public Sayfa sayfa(Iterable<KuantumNesnesi> envanter, Imlec imlec) {
+        tara(envanter, imlec);
+        List<KuantumNesnesi> sonuc = new ArrayList<>(boyut);
+        for (int i = 0; i < boyut; i++) sonuc.add(nesneler[i]);
+        Sayfa sayfa = new Sayfa(sonuc, sonrakiImlec(), kalan);
+        temizle();
+        return sayfa;
+    }
+
+    // Sayfayı satır satır hedefe yazar, ara String oluşturmaz; sonraki imleci döner
+    public Imlec yaz(Iterable<KuantumNesnesi> envanter, Imlec imlec, StringBuilder hedef) {
+        tara(envanter, imlec);
+        for (int i = 0; i < boyut; i++) {
+            nesneler[i].durumYaz(hedef);
+            hedef.append('\n');
+        }
+        Imlec sonraki = sonrakiImlec();
+        temizle();
+        return sonraki;
+    }
+
+    // tara() sonrası bu sayfanın eşleşme bilgisi
+    public int kalan() {
+        return kalan;
+    }
+
+    // ===============================
+    // Tarama
+    // ===============================
+    // Parçalı envanterde her parça kendi sayfasını çıkarır; birleşik sayfa parça
+    // sayfalarındaki adaylardan seçilir, kalan parçaların toplamıdır
+    private void tara(Iterable<KuantumNesnesi> envanter, Imlec imlec) {
+        if (envanter instanceof ParcaliEnvanter parcali) {
+            List<KuantumNesnesi> adaylar = new ArrayList<>();
+            int toplamKalan = 0;
+            for (Sayfa s : parcali.sayfalar(this, imlec)) {
+                adaylar.addAll(s.nesneler);
+                toplamKalan += s.kalan;
+            }
+            taraDuz(adaylar, imlec);
+            kalan = toplamKalan;
+            return;
+        }
+        taraDuz(envanter, imlec);
+    }
+
+    private void taraDuz(Iterable<KuantumNesnesi> envanter, Imlec imlec) {
+        boyut = 0;
+        kalan = 0;
+        for (KuantumNesnesi n : envanter) {
+            if (!filtre.test(n)) continue;
+            double d = deger(n);
+            long k = n.getAnahtar();
+            if (imlec != null && karsilastir(d, k, imlec.deger, imlec.anahtar) <= 0) continue;
+            kalan++;
+            if (boyut < degerler.length) {
+                degerler[boyut] = d;
+                anahtarlar[boyut] = k;
+                nesneler[boyut] = n;
+                yukari(boyut++);
+            } else if (karsilastir(d, k, degerler[0], anahtarlar[0]) < 0) {
+                degerler[0] = d;
+                anahtarlar[0] = k;
+                nesneler[0] = n;
+                asagi(0, boyut);
+            }
+        }
+        // Yığın sıralaması: artan sıraya çevirir
+        for (int son = boyut - 1; son > 0; son--) {
+            takas(0, son);
+            asagi(0, son);
+        }
+    }
+
+    private Imlec sonrakiImlec() {
+        if (kalan <= boyut) return null;
+        return new Imlec(degerler[boyut - 1], anahtarlar[boyut - 1]);
+    }
+
+    // Sorgu nesnesi, envanterden çıkarılan nesneleri tutmasın
+    private void temizle() {
+        for (int i = 0; i < boyut; i++) nesneler[i] = null;
+    }
+
+    private double deger(KuantumNesnesi n) {
+        return switch (siralama) {
+            case KIMLIK -> 0;
+            case STABILITE_ARTAN -> n.getStabilite();
+            case STABILITE_AZALAN -> -n.getStabilite();
+            case TEHLIKE_AZALAN -> -n.getTehlikeSeviyesi();
+        };
+    }
+
+    // Eşit değerlerde anahtar sırası; KIMLIK sıralamasında değer hep 0'dır
+    private static int karsilastir(double d1, long k1, double d2, long k2) {
+        int c = Double.compare(d1, d2);
+        return c != 0 ? c : Long.compare(k1, k2);
+    }
+
+    private void yukari(int i) {
+        while (i > 0) {
+            int ust = (i - 1) >>> 1;
+            if (karsilastir(degerler[i], anahtarlar[i], degerler[ust], anahtarlar[ust]) <= 0) return;
+            takas(i, ust);
+            i = ust;
+        }
+    }
+
+    private void asagi(int i, int n) {
+        while (true) {
+            int sol = 2 * i + 1;
+            if (sol >= n) return;
+            int buyuk = sol + 1 < n && karsilastir(degerler[sol + 1], anahtarlar[sol + 1], degerler[sol], anahtarlar[sol]) > 0
+                    ? sol + 1 : sol;
+            if (karsilastir(degerler[buyuk], anahtarlar[buyuk], degerler[i], anahtarlar[i]) <= 0) return;
+            takas(i, buyuk);
+            i = buyuk;
+        }
+    }
+
+    private void takas(int a, int b) {
+        double d = degerler[a];
+        degerler[a] = degerler[b];
+        degerler[b] = d;
+        long k = anahtarlar[a];
+        anahtarlar[a] = anahtarlar[b];
+        anahtarlar[b] = k;
+        KuantumNesnesi n = nesneler[a];
+        nesneler[a] = nesneler[b];
+        nesneler[b] = n;
+    }
+}
@@ -0,0 +1,82 @@
+package ortak;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// ===============================
+// Gecikme Histogramı (HdrHistogram tarzı)
+// ===============================
+// Log-doğrusal kovalar: 128'e kadar her değer kendi kovasında; üstünde her ikinin
+// kuvveti aralığı 64 alt kovaya bölünür (göreli hata < %1.6). Kayıt tek bir
+// atomik artırmadır, kilit ve ayırma yoktur. Değerler nanosaniyedir; ~18 dakikanın
+// üstü son kovaya yazılır.
+public class GecikmeHistogrami {
+
+    private static final int ALT_BIT = 6;
+    private static final int YARIM = 1 << ALT_BIT;          // 64
+    private static final int DOGRUSAL = YARIM * 2;          // 128
+    private static final int EN_BUYUK_UST = 40;             // 2^40 ns
+    private static final int KOVA_SAYISI = (EN_BUYUK_UST - ALT_BIT + 2) * YARIM;
+
+    private final AtomicLongArray sayilar = new AtomicLongArray(KOVA_SAYISI);
+    private final LongAdder adet = new LongAdder();
+    private final LongAdder toplamNanos = new LongAdder();
+    private final AtomicLong maks = new AtomicLong();
+
+    public void kaydet(long nanos) {
+        if (nanos < 0) nanos = 0;
+        sayilar.incrementAndGet(kova(nanos));
+        adet.increment();
+        toplamNanos.add(nanos);
+        if (nanos > maks.get()) maks.accumulateAndGet(nanos, Math::max);
+    }
+
+    long adet() {
+        return adet.sum();
+    }
+
+    public long maks() {
+        return maks.get();
+    }
+
+    double ortalama() {
+        long n = adet.sum();
+        return n == 0 ? 0 : (double) toplamNanos.sum() / n;
+    }
+
+    // Kayıtların yuzde'sinin altında kaldığı değer (kovanın üst sınırı)
+    public long yuzdelik(double yuzde) {
+        long n = adet.sum();
+        if (n == 0) return 0;
+        long hedef = Math.max(1, (long) Math.ceil(yuzde / 100.0 * n));
+        long birikmis = 0;
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            birikmis += sayilar.get(i);
+            if (birikmis >= hedef) return Math.min(ustSinir(i), maks.get());
+        }
+        return maks.get();
+    }
+
+    void sifirla() {
+        for (int i = 0; i < KOVA_SAYISI; i++) sayilar.set(i, 0);
+        adet.reset();
+        toplamNanos.reset();
+        maks.set(0);
+    }
+
+    static int kova(long deger) {
+        if (deger < DOGRUSAL) return (int) deger;
+        int ust = 63 - Long.numberOfLeadingZeros(deger);
+        if (ust > EN_BUYUK_UST) return KOVA_SAYISI - 1;
+        int kaydirma = ust - ALT_BIT;
+        return (kaydirma + 1) * YARIM + (int) (deger >>> kaydirma) - YARIM;
+    }
+
+    static long ustSinir(int kova) {
+        if (kova < DOGRUSAL) return kova;
+        int kaydirma = kova / YARIM - 1;
+        long alt = kova % YARIM + YARIM;
+        return ((alt + 1) << kaydirma) - 1;
+    }
+}
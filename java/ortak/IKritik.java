@@ -0,0 +1,8 @@
+package ortak;
+
+// ===============================
+// Interface
+// ===============================
+public interface IKritik {
+    void acilDurumSogutmasi();
+}
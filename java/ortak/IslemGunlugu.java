@@ -0,0 +1,380 @@
+package ortak;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// ===============================
+// İşlem Günlüğü (önceden yazma günlüğü)
+// ===============================
+// Her değişiklik sabit uzunluklu bir kayıt olarak bellekteki tampona eklenir.
+// Arka plandaki yazıcı tamponu belirli aralıklarla dosyaya yazar ve tek bir
+// force ile diske indirir (grup onayı); komut döngüsü disk beklemez. Tampon
+// dolarsa yazan iş parçacığı yazıcının tamponları değiştirmesini bekler.
+//
+// Dosyalar: <taban>.gunluk (kayıtlar) ve <taban>.kontrol (son kontrol noktası).
+// Kontrol noktası envanterin tamamının EKLE kayıtlarıdır; sıkıştırmadan sonra
+// günlük boşaltılır. Her iki dosya nesil numarası taşır: kontrol noktasından
+// eski nesildeki günlük yeniden oynatılmaz. Stabilite kayıtları mutlak değer
+// taşıdığından aynı kaydın iki kez uygulanması sonucu değiştirmez.
+public class IslemGunlugu implements StabiliteDinleyicisi, AutoCloseable {
+
+    private static final int SIHIR = 0x4B414D47; // "KAMG"
+    private static final int SURUM = 1;
+    private static final int BASLIK = 16;        // sihir(4) sürüm(4) nesil(8)
+
+    // kayıt: tür(1) anahtar(8) [tip(1) tehlike(1)] stabilite(8)
+    private static final byte EKLE = 1;
+    private static final byte STABILITE = 2;
+    private static final int EKLE_BOYUTU = 19;
+    private static final int STABILITE_BOYUTU = 17;
+
+    private static final int TAMPON = 1 << 20;
+    private static final long SIKISTIRMA_ALT_SINIRI = 1_000_000;
+
+    private final Path gunlukYolu;
+    private final Path kontrolYolu;
+    private final FileChannel kanal;
+    private final long aralikNanos;
+    private long nesil;
+
+    // Üreticiler yalnızca 'dolan' tampona yazar (kilit altında); yazıcı
+    // tamponları değiştirip 'yazilan'ı dosyaya aktarır (yazmaKilidi altında).
+    private final Object kilit = new Object();
+    private final Object yazmaKilidi = new Object();
+    private ByteBuffer dolan = ByteBuffer.allocateDirect(TAMPON);
+    private ByteBuffer yazilan = ByteBuffer.allocateDirect(TAMPON);
+    private long kayitSayisi;
+    private long kontrolBoyutu;
+
+    private final Thread yazici;
+    private volatile boolean kapali;
+    private volatile IOException hata;
+
+    private IslemGunlugu(Path taban, FileChannel kanal, long fsyncAraligiMs) {
+        this.gunlukYolu = yol(taban, ".gunluk");
+        this.kontrolYolu = yol(taban, ".kontrol");
+        this.kanal = kanal;
+        this.aralikNanos = TimeUnit.MILLISECONDS.toNanos(fsyncAraligiMs);
+        this.yazici = new Thread(this::yaziciDongusu, "islem-gunlugu");
+        yazici.setDaemon(true);
+    }
+
+    // fsyncAraligiMs == 0 ise her kayıt yazıldığı çağrıda diske indirilir
+    public static IslemGunlugu ac(Path taban, long fsyncAraligiMs) throws IOException {
+        if (fsyncAraligiMs < 0) {
+            throw new IllegalArgumentException("fsync aralığı negatif olamaz: " + fsyncAraligiMs);
+        }
+        FileChannel kanal = FileChannel.open(yol(taban, ".gunluk"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        IslemGunlugu gunluk = new IslemGunlugu(taban, kanal, fsyncAraligiMs);
+        try {
+            gunluk.nesil = Files.exists(gunluk.kontrolYolu) ? gunluk.kontrolNesli() : 0;
+            if (kanal.size() < BASLIK) gunluk.gunluguSifirla(gunluk.nesil);
+        } catch (IOException | RuntimeException e) {
+            kanal.close();
+            throw e;
+        }
+        if (fsyncAraligiMs > 0) gunluk.yazici.start();
+        return gunluk;
+    }
+
+    // ===============================
+    // Kayıt ekleme (herhangi bir iş parçacığından)
+    // ===============================
+    public void ekle(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        byte tip = (byte) nesne.getTipKodu();
+        double stabilite = nesne.getStabilite();
+        synchronized (kilit) {
+            yerAc(EKLE_BOYUTU);
+            dolan.put(EKLE).putLong(anahtar).put(tip).put((byte) nesne.getTehlikeSeviyesi()).putDouble(stabilite);
+            kayitSayisi++;
+        }
+        if (aralikNanos == 0) bosaltDenetimsiz();
+    }
+
+    // Analiz, soğutma ve çöküş stabiliteyi değiştirdiği için hepsi bu kayda düşer
+    @Override
+    public void stabiliteDegisti(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        synchronized (kilit) {
+            yerAc(STABILITE_BOYUTU);
+            // Değer kilit altında okunur: tampondaki sıra değişiklik sırasıyla aynı kalır
+            dolan.put(STABILITE).putLong(anahtar).putDouble(nesne.getStabilite());
+            kayitSayisi++;
+        }
+        if (aralikNanos == 0) bosaltDenetimsiz();
+    }
+
+    private void yerAc(int gereken) {
+        while (dolan.remaining() < gereken) {
+            if (hata != null) throw new UncheckedIOException(hata);
+            if (kapali) throw new IllegalStateException("İşlem günlüğü kapalı");
+            // fsync aralığı 0 ise tamponu kendi kaydından sonra boşaltan üretici uyandırır
+            LockSupport.unpark(yazici);
+            try {
+                kilit.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Günlük yazımı kesildi", e);
+            }
+        }
+    }
+
+    // ===============================
+    // Grup onayı
+    // ===============================
+    private void yaziciDongusu() {
+        while (!kapali) {
+            LockSupport.parkNanos(aralikNanos);
+            try {
+                bosalt();
+            } catch (IOException e) {
+                hata = e;
+                synchronized (kilit) {
+                    kilit.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    // Tampondaki kayıtları dosyaya yazar ve diske indirir
+    void bosalt() throws IOException {
+        synchronized (yazmaKilidi) {
+            synchronized (kilit) {
+                if (dolan.position() == 0) return;
+                ByteBuffer t = dolan;
+                dolan = yazilan;
+                yazilan = t;
+                kilit.notifyAll();
+            }
+            yazilan.flip();
+            while (yazilan.hasRemaining()) {
+                kanal.write(yazilan);
+            }
+            yazilan.clear();
+            kanal.force(false);
+        }
+    }
+
+    private void bosaltDenetimsiz() {
+        try {
+            bosalt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ===============================
+    // Yeniden oynatma
+    // ===============================
+    // Kayıt eklemeden ve dinleyici bağlamadan önce bir kez çağrılmalıdır.
+    // Yarım kalmış son kayıt atılır. Uygulanan kayıt sayısını döner.
+    public long yenidenOynat(Envanter envanter) throws IOException {
+        AnahtarIndeksi indeks = new AnahtarIndeksi(1024);
+        List<KuantumNesnesi> nesneler = new ArrayList<>();
+        for (KuantumNesnesi nesne : envanter) {
+            indeks.koy(nesne.getAnahtar(), nesneler.size());
+            nesneler.add(nesne);
+        }
+
+        long uygulanan = 0;
+        if (Files.exists(kontrolYolu)) {
+            try (FileChannel kontrol = FileChannel.open(kontrolYolu, StandardOpenOption.READ)) {
+                Okuma okuma = oku(kontrol, envanter, indeks, nesneler);
+                uygulanan += okuma.kayit;
+                kontrolBoyutu = okuma.kayit;
+            }
+        }
+
+        synchronized (yazmaKilidi) {
+            long gecerliSon = BASLIK;
+            if (gunlukNesli() == nesil) {
+                Okuma okuma = oku(kanal, envanter, indeks, nesneler);
+                uygulanan += okuma.kayit;
+                kayitSayisi = okuma.kayit;
+                gecerliSon = okuma.son;
+            }
+            if (gecerliSon == BASLIK) {
+                gunluguSifirla(nesil);
+            } else {
+                kanal.truncate(gecerliSon);
+                kanal.position(gecerliSon);
+            }
+        }
+
+        // Stabilitesi 0 olan nesne çöküşünü zaten yaşamıştır
+        for (KuantumNesnesi nesne : nesneler) {
+            if (nesne.getStabilite() <= 0) nesne.coktuIsaretle();
+        }
+        return uygulanan;
+    }
+
+    private static class Okuma {
+        long kayit;
+        long son;
+    }
+
+    private static Okuma oku(FileChannel kaynak, Envanter envanter, AnahtarIndeksi indeks,
+                             List<KuantumNesnesi> nesneler) throws IOException {
+        Okuma okuma = new Okuma();
+        ByteBuffer tampon = ByteBuffer.allocateDirect(TAMPON);
+        long konum = BASLIK;
+        kaynak.position(BASLIK);
+        while (kaynak.read(tampon) > 0) {
+            tampon.flip();
+            while (tampon.hasRemaining()) {
+                byte tur = tampon.get(tampon.position());
+                int boyut = tur == EKLE ? EKLE_BOYUTU : tur == STABILITE ? STABILITE_BOYUTU : -1;
+                if (boyut < 0) {
+                    // Bozuk kayıt: buradan sonrası güvenilmez
+                    okuma.son = konum;
+                    return okuma;
+                }
+                if (tampon.remaining() < boyut) break;
+
+                tampon.get();
+                long anahtar = tampon.getLong();
+                if (tur == EKLE) {
+                    byte tip = tampon.get();
+                    int tehlike = tampon.get();
+                    double stabilite = tampon.getDouble();
+                    int i = indeks.al(anahtar);
+                    if (i == AnahtarIndeksi.YOK) {
+                        KuantumNesnesi nesne = TipKayitDefteri.olustur(tip, anahtar, stabilite, tehlike);
+                        envanter.ekle(nesne);
+                        indeks.koy(anahtar, nesneler.size());
+                        nesneler.add(nesne);
+                    } else {
+                        nesneler.get(i).setStabilite(stabilite);
+                    }
+                } else {
+                    double stabilite = tampon.getDouble();
+                    int i = indeks.al(anahtar);
+                    if (i != AnahtarIndeksi.YOK) nesneler.get(i).setStabilite(stabilite);
+                }
+                konum += boyut;
+                okuma.kayit++;
+            }
+            tampon.compact();
+        }
+        okuma.son = konum;
+        return okuma;
+    }
+
+    // ===============================
+    // Sıkıştırma
+    // ===============================
+    // Son kontrol noktasından bu yana yazılan kayıtlar canlı nesne sayısının
+    // iki katını (en az bir milyon) aştığında true döner
+    public boolean sikistirmaGerekli() {
+        synchronized (kilit) {
+            return kayitSayisi >= Math.max(SIKISTIRMA_ALT_SINIRI, 2 * kontrolBoyutu);
+        }
+    }
+
+    // Envanterin güncel halini yeni kontrol noktasına yazar ve günlüğü boşaltır.
+    // Envanterin sahibi olan iş parçacığından çağrılmalıdır; sürerken gelen kayıtlar bekler.
+    public void sikistir(Iterable<KuantumNesnesi> envanter) throws IOException {
+        synchronized (yazmaKilidi) {
+            synchronized (kilit) {
+                // Tampondaki değişiklikler nesnelere zaten uygulanmış; kontrol noktası onları içerir
+                dolan.clear();
+                long yeniNesil = nesil + 1;
+                Path gecici = yol(kontrolYolu, ".tmp");
+                long yazilanKayit = 0;
+                try (FileChannel kontrol = FileChannel.open(gecici, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer tampon = yazilan;
+                    tampon.clear();
+                    tampon.putInt(SIHIR).putInt(SURUM).putLong(yeniNesil);
+                    for (KuantumNesnesi nesne : envanter) {
+                        long anahtar = nesne.getAnahtar();
+                        if (tampon.remaining() < EKLE_BOYUTU) tamponuYaz(kontrol, tampon);
+                        tampon.put(EKLE).putLong(anahtar).put((byte) nesne.getTipKodu())
+                                .put((byte) nesne.getTehlikeSeviyesi()).putDouble(nesne.getStabilite());
+                        yazilanKayit++;
+                    }
+                    tamponuYaz(kontrol, tampon);
+                    kontrol.force(true);
+                }
+                Files.move(gecici, kontrolYolu, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+                // Buradan önce çökülürse eski nesildeki günlük yeniden oynatılmaz
+                gunluguSifirla(yeniNesil);
+                nesil = yeniNesil;
+                kayitSayisi = 0;
+                kontrolBoyutu = yazilanKayit;
+            }
+        }
+    }
+
+    private static void tamponuYaz(FileChannel hedef, ByteBuffer tampon) throws IOException {
+        tampon.flip();
+        while (tampon.hasRemaining()) {
+            hedef.write(tampon);
+        }
+        tampon.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        kapali = true;
+        LockSupport.unpark(yazici);
+        try {
+            if (yazici.isAlive()) yazici.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            bosalt();
+        } finally {
+            kanal.close();
+        }
+    }
+
+    // ===============================
+    // Dosya başlıkları
+    // ===============================
+    private void gunluguSifirla(long yeniNesil) throws IOException {
+        ByteBuffer baslik = ByteBuffer.allocate(BASLIK);
+        baslik.putInt(SIHIR).putInt(SURUM).putLong(yeniNesil).flip();
+        kanal.truncate(0);
+        kanal.write(baslik, 0);
+        kanal.position(BASLIK);
+        kanal.force(true);
+    }
+
+    private long gunlukNesli() throws IOException {
+        return baslikNesli(kanal, gunlukYolu);
+    }
+
+    private long kontrolNesli() throws IOException {
+        try (FileChannel kontrol = FileChannel.open(kontrolYolu, StandardOpenOption.READ)) {
+            return baslikNesli(kontrol, kontrolYolu);
+        }
+    }
+
+    private static long baslikNesli(FileChannel kaynak, Path yol) throws IOException {
+        ByteBuffer baslik = ByteBuffer.allocate(BASLIK);
+        if (kaynak.read(baslik, 0) < BASLIK || baslik.getInt(0) != SIHIR || baslik.getInt(4) != SURUM) {
+            throw new IOException("Geçersiz günlük dosyası: " + yol);
+        }
+        return baslik.getLong(8);
+    }
+
+    private static Path yol(Path taban, String uzanti) {
+        return taban.resolveSibling(taban.getFileName() + uzanti);
+    }
+}
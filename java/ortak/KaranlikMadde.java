@@ -0,0 +1,16 @@
+package ortak;
+
+// ===============================
+// KaranlikMadde (IKritik)
+// ===============================
+public class KaranlikMadde extends KuantumNesnesi implements IKritik {
+
+    public KaranlikMadde(long anahtar, double stabilite, int tehlike) {
+        super(TipKayitDefteri.KARANLIK_MADDE, anahtar, stabilite, tehlike);
+    }
+
+    @Override
+    public void acilDurumSogutmasi() {
+        sogutmaUygula();
+    }
+}
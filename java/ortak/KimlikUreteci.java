@@ -0,0 +1,33 @@
+package ortak;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// ===============================
+// Kimlik Üreteci
+// ===============================
+// Anahtarları artan sırayla dağıtır; eş zamanlı çağrılar çakışmaz. Toplu üretim
+// ardışık bir blok ayırır. Dosyadan/günlükten gelen anahtarlar gordu() ile
+// bildirilir, üreteç onların sonrasından devam eder.
+public class KimlikUreteci {
+
+    private final AtomicLong sonraki;
+
+    public KimlikUreteci(long ilkAnahtar) {
+        if (ilkAnahtar < 0) throw new IllegalArgumentException("Geçersiz ID başlangıcı: " + ilkAnahtar);
+        this.sonraki = new AtomicLong(ilkAnahtar);
+    }
+
+    public long sonraki() {
+        return sonraki.getAndIncrement();
+    }
+
+    // [dönen, dönen + adet) bloğu çağırana aittir
+    public long ayir(int adet) {
+        if (adet < 0) throw new IllegalArgumentException("Geçersiz adet: " + adet);
+        return sonraki.getAndAdd(adet);
+    }
+
+    public void gordu(long anahtar) {
+        sonraki.accumulateAndGet(anahtar + 1, Math::max);
+    }
+}
@@ -0,0 +1,11 @@
+package ortak;
+
+// ===============================
+// Custom Exception
+// ===============================
+// Çöküş olağan bir sonuç; yığın izi toplanmaz
+public class KuantumCokusuException extends Exception {
+    public KuantumCokusuException(String id) {
+        super("KUANTUM ÇÖKÜŞÜ! Nesne patladı: " + id, null, false, false);
+    }
+}
@@ -0,0 +1,181 @@
+package ortak;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// ===============================
+// Abstract Class
+// ===============================
+public abstract class KuantumNesnesi {
+    private static final VarHandle STABILITE;
+    private static final VarHandle COKTU;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            STABILITE = lookup.findVarHandle(KuantumNesnesi.class, "stabilite", double.class);
+            COKTU = lookup.findVarHandle(KuantumNesnesi.class, "coktu", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // NesneKimligi anahtarı; "QN-..." metni yalnızca gösterimde üretilir
+    private final long anahtar;
+    // TipKayitDefteri kodu; davranış tablolardan bu kodla okunur
+    private final byte tipKodu;
+    private volatile double stabilite;
+    private int tehlikeSeviyesi;
+    private volatile boolean coktu;
+    private volatile StabiliteDinleyicisi dinleyici;
+    // RiskIndeksi alanları: nesnenin sayıldığı %1'lik kova (indekste değilse -1) ve
+    // kritik nesneler için kovanın listesindeki komşular. Nesne aynı anda tek
+    // envanterde, dolayısıyla tek risk indeksinde bulunur.
+    int riskKovasi = -1;
+    KuantumNesnesi riskOnceki;
+    KuantumNesnesi riskSonraki;
+
+    public static final double UYARI_ESIGI = 30;
+
+    protected KuantumNesnesi(int tipKodu, long anahtar, double stabilite, int tehlikeSeviyesi) {
+        this(tipKodu, anahtar);
+        setStabilite(stabilite);
+        setTehlikeSeviyesi(tehlikeSeviyesi);
+    }
+
+    // Durumu başka yerde tutan alt sınıflar için (ör. KolonEnvanter görünümleri)
+    protected KuantumNesnesi(int tipKodu, long anahtar) {
+        if (anahtar < 0) throw new IllegalArgumentException("Geçersiz ID anahtarı: " + anahtar);
+        // Davranış tabloları koda göre okunur (BOZUNMA[tipKodu]); kayıtsız kod burada reddedilir
+        if (!TipKayitDefteri.gecerli(tipKodu)) throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        this.tipKodu = (byte) tipKodu;
+        this.anahtar = anahtar;
+    }
+
+    public final int getTipKodu() {
+        return tipKodu;
+    }
+
+    public final NesneTipi getTip() {
+        return TipKayitDefteri.tip(tipKodu);
+    }
+
+    public final long getAnahtar() {
+        return anahtar;
+    }
+
+    // Gösterim içindir; aramalar getAnahtar() ile yapılır
+    public String getId() {
+        return NesneKimligi.metin(anahtar);
+    }
+
+    public double getStabilite() {
+        return stabilite;
+    }
+
+    public void setStabilite(double stabilite) {
+        this.stabilite = sinirla(stabilite);
+        bildir();
+    }
+
+    // Oku-değiştir-yaz yerine CAS döngüsü: eş zamanlı güncellemeler kaybolmaz.
+    // Sınırlanmış yeni değeri döner.
+    protected double stabiliteDegistir(double fark) {
+        double eski, yeni;
+        do {
+            eski = stabilite;
+            yeni = sinirla(eski + fark);
+        } while (!STABILITE.compareAndSet(this, eski, yeni));
+        if (eski != yeni) bildir();
+        return yeni;
+    }
+
+    // Nesne başına tek dinleyici (ör. envanterin risk indeksi)
+    public void setDinleyici(StabiliteDinleyicisi dinleyici) {
+        this.dinleyici = dinleyici;
+    }
+
+    private void bildir() {
+        StabiliteDinleyicisi d = dinleyici;
+        if (d != null) d.stabiliteDegisti(this);
+    }
+
+    private void coktuBildir() {
+        StabiliteDinleyicisi d = dinleyici;
+        if (d != null) d.coktu(this);
+    }
+
+    private static double sinirla(double stabilite) {
+        if (stabilite < 0) return 0;
+        if (stabilite > 100) return 100;
+        return stabilite;
+    }
+
+    public int getTehlikeSeviyesi() {
+        return tehlikeSeviyesi;
+    }
+
+    public void setTehlikeSeviyesi(int tehlikeSeviyesi) {
+        if (tehlikeSeviyesi < 1 || tehlikeSeviyesi > 10) {
+            throw new IllegalArgumentException("Tehlike seviyesi 1-10 arası olmalıdır!");
+        }
+        this.tehlikeSeviyesi = tehlikeSeviyesi;
+    }
+
+    // İstisna ayırmadan sonuç üretir. COKTU nesne başına yalnızca bir kez döner;
+    // zaten çökmüş bir nesnenin sonraki analizleri UYARI döner (bkz. isCoktu).
+    protected AnalizSonucu sonuc(double yeniStabilite) {
+        if (yeniStabilite <= 0 && COKTU.compareAndSet(this, false, true)) {
+            coktuBildir();
+            return AnalizSonucu.COKTU;
+        }
+        return yeniStabilite < UYARI_ESIGI ? AnalizSonucu.UYARI : AnalizSonucu.TAMAM;
+    }
+
+    // Zincirleme çöküşte komşudan gelen hasar; çöküş analizdeki gibi bir kez bildirilir
+    public AnalizSonucu hasarAl(double miktar) {
+        return sonuc(stabiliteDegistir(-miktar));
+    }
+
+    public boolean isCoktu() {
+        return coktu;
+    }
+
+    // Kalıcı kayıttan geri yüklemede: stabilitesi 0 olarak saklanan nesne zaten çökmüştür
+    public void coktuIsaretle() {
+        coktu = true;
+    }
+
+    public String durumBilgisi() {
+        StringBuilder sb = new StringBuilder(48);
+        durumYaz(sb);
+        return sb.toString();
+    }
+
+    // Listelemenin sıcak yolu: satırı ara String oluşturmadan hedefe ekler
+    public void durumYaz(StringBuilder hedef) {
+        NesneKimligi.yaz(anahtar, hedef.append("ID: ")).append(" | Stabilite: ");
+        SayiBicimi.ondalik(hedef, getStabilite(), 1);
+    }
+
+    // Sıcak yol: istisna ve nesne ayırmadan analiz; kayıp tipin tablosundan okunur
+    public AnalizSonucu analiz() {
+        return sonuc(stabiliteDegistir(-TipKayitDefteri.BOZUNMA[tipKodu]));
+    }
+
+    // IKritik tiplerin acil soğutması
+    protected void sogutmaUygula() {
+        stabiliteDegistir(TipKayitDefteri.SOGUTMA[tipKodu]);
+        StabiliteDinleyicisi d = dinleyici;
+        if (d != null) d.sogutuldu(this);
+        LogHatti.sistem().bilgi("Acil soğutma uygulandı.");
+    }
+
+    // Uyumluluk sarmalayıcısı: tipin log satırını yazar, çöküşü istisna olarak bildirir
+    public void analizEt() throws KuantumCokusuException {
+        getTip().analizBildir();
+        if (analiz() == AnalizSonucu.COKTU) {
+            throw new KuantumCokusuException(getId());
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package ortak;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// ===============================
+// Log Hattı (asenkron, toplu)
+// ===============================
+// Üreticiler sabit boyutlu halka tampona kilitsiz yazar: sıra numarası CAS ile
+// alınır, yuva doldurulup sıra numarası yayınlanır. Tek tüketici iş parçacığı
+// kayıtları toplu halde okur, zamanı biçimler ve hedeflere aktarır. Tampon
+// doluysa kayıt düşürülür ve sayılır; analiz yolu hiçbir zaman log için beklemez.
+// Düşen kayıt sayısı bir sonraki toplulukta UYARI olarak hedeflere yazılır ve
+// dusenSayisi() ile metriklerde raporlanır.
+public class LogHatti {
+
+    public enum Seviye {
+        BILGI("[BİLGİ]"),
+        BASARILI("[BAŞARILI]"),
+        UYARI("[UYARI]"),
+        HATA("[HATA]");
+
+        public final String onek;
+
+        Seviye(String onek) {
+            this.onek = onek;
+        }
+    }
+
+    // Tüketici iş parçacığında çağrılır; bitir() her topluluğun sonunda bir kez
+    public interface Hedef {
+        void yaz(String zaman, Seviye seviye, String mesaj) throws IOException;
+
+        default void bitir() throws IOException {
+        }
+
+        default void kapat() throws IOException {
+            bitir();
+        }
+    }
+
+    private static final DateTimeFormatter ZAMAN_BICIMI =
+            DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final int TOPLULUK = 1024;
+
+    private final int maske;
+    private final AtomicLongArray yayinlanan;
+    private final String[] mesajlar;
+    private final Seviye[] seviyeler;
+    private final long[] zamanlar;
+
+    private final AtomicLong yazmaSirasi = new AtomicLong();
+    private volatile long okumaSirasi;
+    // Hedeflerin bitir() ile boşalttığı son sıra (bekle() bunu izler)
+    private volatile long aktarilanSira;
+    private final LongAdder dusen = new LongAdder();
+
+    private final List<Hedef> hedefler = new CopyOnWriteArrayList<>();
+    private final Thread tuketici;
+    private volatile boolean kapali;
+
+    // Biçimlenmiş zaman saniye değişene kadar yeniden kullanılır (yalnızca tüketici)
+    private long sonSaniye = Long.MIN_VALUE;
+    private String sonZaman;
+
+    public LogHatti(int kapasite) {
+        int k = Integer.highestOneBit(Math.max(2, kapasite) * 2 - 1);
+        maske = k - 1;
+        yayinlanan = new AtomicLongArray(k);
+        for (int i = 0; i < k; i++) yayinlanan.set(i, -1);
+        mesajlar = new String[k];
+        seviyeler = new Seviye[k];
+        zamanlar = new long[k];
+        tuketici = new Thread(this::tuketiciDongusu, "log-hatti");
+        tuketici.setDaemon(true);
+        tuketici.start();
+    }
+
+    // Konsola yazan ortak hat; dosya hedefi Main tarafından eklenir
+    public static LogHatti sistem() {
+        return Sistem.HAT;
+    }
+
+    // Standart çıktı komut yanıtlarına ayrıldığında (betik, sunucu) ortak hattın
+    // konsol kayıtları standart hataya yazılır; tamponlu yanıtlarla karışmaz
+    public static void konsolHataAkisina(boolean hataAkisi) {
+        Sistem.KONSOL.hataAkisi = hataAkisi;
+    }
+
+    private static class Sistem {
+        static final KonsolHedefi KONSOL = new KonsolHedefi();
+        static final LogHatti HAT = new LogHatti(1 << 16);
+
+        static {
+            HAT.hedefEkle(KONSOL);
+        }
+    }
+
+    public void hedefEkle(Hedef hedef) {
+        hedefler.add(hedef);
+    }
+
+    // ===============================
+    // Üretici tarafı (herhangi bir iş parçacığından)
+    // ===============================
+    public void bilgi(String mesaj) {
+        yaz(Seviye.BILGI, mesaj);
+    }
+
+    public void uyari(String mesaj) {
+        yaz(Seviye.UYARI, mesaj);
+    }
+
+    public void hata(String mesaj) {
+        yaz(Seviye.HATA, mesaj);
+    }
+
+    // Tampon doluysa false döner ve kayıt düşürülür
+    public boolean yaz(Seviye seviye, String mesaj) {
+        long sira;
+        do {
+            sira = yazmaSirasi.get();
+            if (sira - okumaSirasi > maske) {
+                dusen.increment();
+                return false;
+            }
+        } while (!yazmaSirasi.compareAndSet(sira, sira + 1));
+
+        int i = (int) sira & maske;
+        mesajlar[i] = mesaj;
+        seviyeler[i] = seviye;
+        zamanlar[i] = System.currentTimeMillis();
+        yayinlanan.set(i, sira);
+        return true;
+    }
+
+    // Tampon dolu olduğu için düşürülen kayıtlar (başlangıçtan beri)
+    public long dusenSayisi() {
+        return dusen.sum();
+    }
+
+    // Şu ana kadar yazılan kayıtlar hedeflere aktarılana kadar bekler
+    // (konsol çıktısının menüyle karışmaması için)
+    public void bekle() {
+        long hedefSira = yazmaSirasi.get();
+        while (aktarilanSira < hedefSira && tuketici.isAlive()) {
+            LockSupport.unpark(tuketici);
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    public void kapat() {
+        bekle();
+        kapali = true;
+        LockSupport.unpark(tuketici);
+        try {
+            tuketici.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Hedef hedef : hedefler) {
+            try {
+                hedef.kapat();
+            } catch (IOException e) {
+                System.err.println("Log hedefi kapatılamadı: " + e.getMessage());
+            }
+        }
+    }
+
+    // ===============================
+    // Tüketici
+    // ===============================
+    private void tuketiciDongusu() {
+        long raporlananDusen = 0;
+        while (true) {
+            int okunan = toplulukAktar();
+            long d = dusen.sum();
+            if (d != raporlananDusen) {
+                hedeflereYaz(System.currentTimeMillis(), Seviye.UYARI,
+                        (d - raporlananDusen) + " log kaydı tampon dolu olduğu için düşürüldü");
+                raporlananDusen = d;
+                okunan++;
+            }
+            if (okunan > 0) {
+                for (Hedef hedef : hedefler) {
+                    try {
+                        hedef.bitir();
+                    } catch (IOException e) {
+                        System.err.println("Log hedefine yazılamadı: " + e.getMessage());
+                    }
+                }
+                aktarilanSira = okumaSirasi;
+            } else if (kapali) {
+                return;
+            } else {
+                LockSupport.parkNanos(1_000_000);
+            }
+        }
+    }
+
+    private int toplulukAktar() {
+        long sira = okumaSirasi;
+        int okunan = 0;
+        while (okunan < TOPLULUK) {
+            int i = (int) sira & maske;
+            if (yayinlanan.get(i) != sira) break;
+            String mesaj = mesajlar[i];
+            Seviye seviye = seviyeler[i];
+            long zaman = zamanlar[i];
+            mesajlar[i] = null;
+            sira++;
+            okunan++;
+            // Yuva ancak içeriği okunduktan sonra üreticilere açılır
+            okumaSirasi = sira;
+            hedeflereYaz(zaman, seviye, mesaj);
+        }
+        return okunan;
+    }
+
+    private void hedeflereYaz(long zamanMs, Seviye seviye, String mesaj) {
+        long saniye = zamanMs / 1000;
+        if (saniye != sonSaniye) {
+            sonSaniye = saniye;
+            sonZaman = ZAMAN_BICIMI.format(Instant.ofEpochMilli(zamanMs));
+        }
+        for (Hedef hedef : hedefler) {
+            try {
+                hedef.yaz(sonZaman, seviye, mesaj);
+            } catch (IOException e) {
+                System.err.println("Log hedefine yazılamadı: " + e.getMessage());
+            }
+        }
+    }
+
+    // ===============================
+    // Hedefler
+    // ===============================
+
+    // Konsol: yalnızca mesaj; topluluk tek print ile yazılır
+    public static class KonsolHedefi implements Hedef {
+        private final StringBuilder tampon = new StringBuilder();
+        volatile boolean hataAkisi;
+
+        @Override
+        public void yaz(String zaman, Seviye seviye, String mesaj) {
+            tampon.append(mesaj).append(System.lineSeparator());
+        }
+
+        @Override
+        public void bitir() {
+            // Yazım anındaki akış kullanılır (benchmark yönlendirmesi dahil)
+            PrintStream out = hataAkisi ? System.err : System.out;
+            out.print(tampon);
+            out.flush();
+            tampon.setLength(0);
+        }
+    }
+
+    // Dönen dosya: boyut sınırı aşılınca yol -> yol.1 -> ... -> yol.N kaydırılır
+    public static class DonenDosyaHedefi implements Hedef {
+        private final Path yol;
+        private final long maksBayt;
+        private final int dosyaSayisi;
+        private BufferedWriter yazici;
+        private long yazilanBayt;
+
+        public DonenDosyaHedefi(Path yol, long maksBayt, int dosyaSayisi) throws IOException {
+            if (maksBayt <= 0 || dosyaSayisi < 1) {
+                throw new IllegalArgumentException("Geçersiz log döndürme ayarı: " + maksBayt + " bayt, " + dosyaSayisi + " dosya");
+            }
+            this.yol = yol;
+            this.maksBayt = maksBayt;
+            this.dosyaSayisi = dosyaSayisi;
+            ac();
+        }
+
+        private void ac() throws IOException {
+            yazici = Files.newBufferedWriter(yol, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            yazilanBayt = Files.size(yol);
+        }
+
+        @Override
+        public void yaz(String zaman, Seviye seviye, String mesaj) throws IOException {
+            if (yazilanBayt >= maksBayt) dondur();
+            yazici.write('[');
+            yazici.write(zaman);
+            yazici.write("] ");
+            yazici.write(seviye.onek);
+            yazici.write(' ');
+            yazici.write(mesaj);
+            yazici.newLine();
+            // Yaklaşık: sınır için karakter sayısı yeterli
+            yazilanBayt += zaman.length() + seviye.onek.length() + mesaj.length() + 5;
+        }
+
+        private void dondur() throws IOException {
+            yazici.close();
+            for (int i = dosyaSayisi - 1; i >= 1; i--) {
+                Path eski = yol.resolveSibling(yol.getFileName() + "." + i);
+                if (Files.exists(eski)) {
+                    Files.move(eski, yol.resolveSibling(yol.getFileName() + "." + (i + 1)),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(yol, yol.resolveSibling(yol.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            ac();
+        }
+
+        @Override
+        public void bitir() throws IOException {
+            yazici.flush();
+        }
+
+        @Override
+        public void kapat() throws IOException {
+            yazici.close();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package ortak;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// ===============================
+// Metrikler
+// ===============================
+// Tip başına işlem sayaçları, arama ve analiz gecikme histogramları ve risk
+// indeksinden okunan stabilite dağılımı. Sayaçlar LongAdder'dır; paralel toplu
+// işlemlerde iş parçacıkları aynı hücre için yarışmaz.
+public class Metrikler implements MetriklerMBean {
+
+    private static final int TIP = TipKayitDefteri.kodAraligi();
+    private static final String JMX_ADI = "kuantum:type=Metrikler";
+
+    private final LongAdder[] eklemeler = sayaclar();
+    private final LongAdder[] analizler = sayaclar();
+    private final LongAdder[] sogutmalar = sayaclar();
+    private final LongAdder[] cokusler = sayaclar();
+    private final GecikmeHistogrami analizSuresi = new GecikmeHistogrami();
+    private final GecikmeHistogrami aramaSuresi = new GecikmeHistogrami();
+
+    // Stabilite dağılımı bu envanterin risk indeksinden okunur
+    private volatile Envanter envanter;
+
+    public static Metrikler sistem() {
+        return Sistem.METRIKLER;
+    }
+
+    private static class Sistem {
+        static final Metrikler METRIKLER = new Metrikler();
+    }
+
+    // ===============================
+    // Kayıt (herhangi bir iş parçacığından)
+    // ===============================
+    public void eklendi(KuantumNesnesi nesne) {
+        eklemeler[nesne.getTipKodu()].increment();
+    }
+
+    public void analizEdildi(KuantumNesnesi nesne, AnalizSonucu sonuc, long sureNanos) {
+        int tip = nesne.getTipKodu();
+        analizler[tip].increment();
+        if (sonuc == AnalizSonucu.COKTU) cokusler[tip].increment();
+        analizSuresi.kaydet(sureNanos);
+    }
+
+    // Ölçerek analiz eder (toplu işlemlerin sıcak yolu)
+    public AnalizSonucu analiz(KuantumNesnesi nesne) {
+        long baslangic = System.nanoTime();
+        AnalizSonucu sonuc = nesne.analiz();
+        analizEdildi(nesne, sonuc, System.nanoTime() - baslangic);
+        return sonuc;
+    }
+
+    // Kritik nesneyi soğutup sayar; soğutulamıyorsa false
+    public boolean sogut(KuantumNesnesi nesne) {
+        if (!(nesne instanceof IKritik kritik)) return false;
+        kritik.acilDurumSogutmasi();
+        sogutuldu(nesne);
+        return true;
+    }
+
+    void sogutuldu(KuantumNesnesi nesne) {
+        sogutmalar[nesne.getTipKodu()].increment();
+    }
+
+    public void aramaYapildi(long sureNanos) {
+        aramaSuresi.kaydet(sureNanos);
+    }
+
+    // ===============================
+    // Dışa açma
+    // ===============================
+    public void jmxKaydet(Envanter envanter) {
+        this.envanter = envanter;
+        try {
+            MBeanServer sunucu = ManagementFactory.getPlatformMBeanServer();
+            ObjectName ad = new ObjectName(JMX_ADI);
+            if (!sunucu.isRegistered(ad)) sunucu.registerMBean(this, ad);
+        } catch (JMException e) {
+            LogHatti.sistem().hata("Metrikler JMX'e kaydedilemedi: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getOzet() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s", ""));
+        for (NesneTipi tip : TipKayitDefteri.tipler()) sb.append(String.format("%15s", tip.ad()));
+        sb.append(String.format("%10s%n", "Toplam"));
+        satir(sb, "Ekleme", eklemeler);
+        satir(sb, "Analiz", analizler);
+        satir(sb, "Soğutma", sogutmalar);
+        satir(sb, "Çöküş", cokusler);
+
+        sb.append(String.format("%n%-12s%10s%10s%10s%10s%10s%10s%10s%n",
+                "Gecikme µs", "adet", "ort", "p50", "p90", "p99", "p99.9", "maks"));
+        gecikme(sb, "Arama", aramaSuresi);
+        gecikme(sb, "Analiz", analizSuresi);
+        sb.append(String.format("%nDüşen log kaydı: %d%n", getDusenLogSayisi()));
+
+        Envanter e = envanter;
+        if (e != null) {
+            sb.append(String.format("%nStabilite dağılımı (%%)%n"));
+            int[] dagilim = e.riskIndeksi().dagilim(10);
+            for (int i = 0; i < dagilim.length; i++) {
+                sb.append(String.format("  %3d-%-3d %d%n", i * 10, i == dagilim.length - 1 ? 100 : i * 10 + 9, dagilim[i]));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void satir(StringBuilder sb, String ad, LongAdder[] sayac) {
+        sb.append(String.format("%-10s", ad));
+        long toplam = 0;
+        for (NesneTipi tip : TipKayitDefteri.tipler()) {
+            long n = sayac[tip.kod()].sum();
+            toplam += n;
+            sb.append(String.format("%15d", n));
+        }
+        sb.append(String.format("%10d%n", toplam));
+    }
+
+    private static void gecikme(StringBuilder sb, String ad, GecikmeHistogrami h) {
+        sb.append(String.format("%-12s%10d%10.1f%10.1f%10.1f%10.1f%10.1f%10.1f%n", ad, h.adet(), h.ortalama() / 1000.0,
+                h.yuzdelik(50) / 1000.0, h.yuzdelik(90) / 1000.0, h.yuzdelik(99) / 1000.0,
+                h.yuzdelik(99.9) / 1000.0, h.maks() / 1000.0));
+    }
+
+    @Override
+    public long[] getEklemeSayilari() {
+        return anlik(eklemeler);
+    }
+
+    @Override
+    public long[] getAnalizSayilari() {
+        return anlik(analizler);
+    }
+
+    @Override
+    public long[] getSogutmaSayilari() {
+        return anlik(sogutmalar);
+    }
+
+    @Override
+    public long[] getCokusSayilari() {
+        return anlik(cokusler);
+    }
+
+    @Override
+    public long getAnalizP50Mikros() {
+        return analizSuresi.yuzdelik(50) / 1000;
+    }
+
+    @Override
+    public long getAnalizP99Mikros() {
+        return analizSuresi.yuzdelik(99) / 1000;
+    }
+
+    @Override
+    public long getAnalizMaksMikros() {
+        return analizSuresi.maks() / 1000;
+    }
+
+    @Override
+    public long getAramaP50Mikros() {
+        return aramaSuresi.yuzdelik(50) / 1000;
+    }
+
+    @Override
+    public long getAramaP99Mikros() {
+        return aramaSuresi.yuzdelik(99) / 1000;
+    }
+
+    @Override
+    public long getAramaMaksMikros() {
+        return aramaSuresi.maks() / 1000;
+    }
+
+    @Override
+    public long getDusenLogSayisi() {
+        return LogHatti.sistem().dusenSayisi();
+    }
+
+    @Override
+    public int[] getStabiliteDagilimi() {
+        Envanter e = envanter;
+        return e == null ? new int[0] : e.riskIndeksi().dagilim(10);
+    }
+
+    @Override
+    public void sifirla() {
+        for (int i = 0; i < TIP; i++) {
+            eklemeler[i].reset();
+            analizler[i].reset();
+            sogutmalar[i].reset();
+            cokusler[i].reset();
+        }
+        analizSuresi.sifirla();
+        aramaSuresi.sifirla();
+    }
+
+    private static LongAdder[] sayaclar() {
+        LongAdder[] dizi = new LongAdder[TIP];
+        for (int i = 0; i < TIP; i++) dizi[i] = new LongAdder();
+        return dizi;
+    }
+
+    private static long[] anlik(LongAdder[] sayac) {
+        long[] sonuc = new long[sayac.length];
+        for (int i = 0; i < sayac.length; i++) sonuc[i] = sayac[i].sum();
+        return sonuc;
+    }
+}
@@ -0,0 +1,37 @@
+package ortak;
+
+// JMX yönetim arayüzü (kuantum:type=Metrikler). Süreler mikrosaniyedir;
+// tip başına diziler TipKayitDefteri koduyla indekslenir (0 VeriPaketi,
+// 1 KaranlikMadde, 2 AntiMadde, sonra eklenti tipleri).
+public interface MetriklerMBean {
+
+    long[] getEklemeSayilari();
+
+    long[] getAnalizSayilari();
+
+    long[] getSogutmaSayilari();
+
+    long[] getCokusSayilari();
+
+    long getAnalizP50Mikros();
+
+    long getAnalizP99Mikros();
+
+    long getAnalizMaksMikros();
+
+    long getAramaP50Mikros();
+
+    long getAramaP99Mikros();
+
+    long getAramaMaksMikros();
+
+    // %10'luk aralıklarda nesne sayıları
+    int[] getStabiliteDagilimi();
+
+    // Log hattında tampon dolu olduğu için düşürülen kayıtlar
+    long getDusenLogSayisi();
+
+    String getOzet();
+
+    void sifirla();
+}
@@ -0,0 +1,91 @@
+package ortak;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// ===============================
+// Nesne Haritası (anahtar -> nesne)
+// ===============================
+// Nesneler yoğun bir dizide, dizideki yerleri AnahtarIndeksi'nde tutulur: arama
+// kutulama ve String karşılaştırması yapmaz, tarama düz dizi üzerindedir.
+// Sıra ekleme sırasıdır; çıkarılan nesnenin yerine son nesne taşınır.
+// Eş zamanlı kullanım için değildir.
+public class NesneHaritasi implements Iterable<KuantumNesnesi> {
+
+    private final AnahtarIndeksi indeks;
+    private KuantumNesnesi[] nesneler;
+    private int boyut;
+    private int degisiklik;
+
+    NesneHaritasi(int beklenenBoyut) {
+        indeks = new AnahtarIndeksi(beklenenBoyut);
+        nesneler = new KuantumNesnesi[Math.max(4, beklenenBoyut)];
+    }
+
+    KuantumNesnesi al(long anahtar) {
+        int i = indeks.al(anahtar);
+        return i == AnahtarIndeksi.YOK ? null : nesneler[i];
+    }
+
+    boolean iceriyor(long anahtar) {
+        return indeks.iceriyor(anahtar);
+    }
+
+    // Aynı anahtar varsa eklemez, false döner
+    boolean ekle(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        int onceki = indeks.koy(anahtar, boyut);
+        if (onceki != AnahtarIndeksi.YOK) {
+            indeks.koy(anahtar, onceki);
+            return false;
+        }
+        if (boyut == nesneler.length) {
+            KuantumNesnesi[] yeni = new KuantumNesnesi[boyut * 2];
+            System.arraycopy(nesneler, 0, yeni, 0, boyut);
+            nesneler = yeni;
+        }
+        nesneler[boyut++] = nesne;
+        degisiklik++;
+        return true;
+    }
+
+    KuantumNesnesi cikar(long anahtar) {
+        int i = indeks.sil(anahtar);
+        if (i == AnahtarIndeksi.YOK) return null;
+        KuantumNesnesi nesne = nesneler[i];
+        int son = --boyut;
+        if (i != son) {
+            nesneler[i] = nesneler[son];
+            indeks.koy(nesneler[i].getAnahtar(), i);
+        }
+        nesneler[son] = null;
+        degisiklik++;
+        return nesne;
+    }
+
+    int boyut() {
+        return boyut;
+    }
+
+    // Salt okunur; tarama sırasında ekleme/çıkarma ConcurrentModificationException fırlatır
+    @Override
+    public Iterator<KuantumNesnesi> iterator() {
+        return new Iterator<>() {
+            private final int beklenen = degisiklik;
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return i < boyut;
+            }
+
+            @Override
+            public KuantumNesnesi next() {
+                if (degisiklik != beklenen) throw new ConcurrentModificationException();
+                if (i >= boyut) throw new NoSuchElementException();
+                return nesneler[i++];
+            }
+        };
+    }
+}
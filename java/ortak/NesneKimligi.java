@@ -0,0 +1,49 @@
+package ortak;
+
+// ===============================
+// Nesne Kimliği
+// ===============================
+// ID'ler içeride "QN-" önekinden sonraki sayıdır (anahtar, >= 0); "QN-123"
+// metni yalnızca gösterimde üretilir. Dosya, günlük ve kolon deposu aynı
+// anahtarı saklar. Çözümleme ara String oluşturmaz.
+public final class NesneKimligi {
+
+    static final String ONEK = "QN-";
+    public static final long YOK = -1;
+    // 18 basamak long'a taşmadan sığar
+    private static final int MAKS_BASAMAK = 18;
+
+    private NesneKimligi() {
+    }
+
+    // "QN-123" -> 123; baştaki ve sondaki boşluklar yok sayılır, geçersiz biçimde YOK
+    public static long coz(CharSequence metin) {
+        return metin == null ? YOK : coz(metin, 0, metin.length());
+    }
+
+    // metin[bas, son) aralığını çözer
+    public static long coz(CharSequence metin, int bas, int son) {
+        while (bas < son && Character.isWhitespace(metin.charAt(bas))) bas++;
+        while (son > bas && Character.isWhitespace(metin.charAt(son - 1))) son--;
+        int basamak = son - bas - ONEK.length();
+        if (basamak < 1 || basamak > MAKS_BASAMAK) return YOK;
+        for (int i = 0; i < ONEK.length(); i++) {
+            if (metin.charAt(bas + i) != ONEK.charAt(i)) return YOK;
+        }
+        long deger = 0;
+        for (int i = bas + ONEK.length(); i < son; i++) {
+            char c = metin.charAt(i);
+            if (c < '0' || c > '9') return YOK;
+            deger = deger * 10 + (c - '0');
+        }
+        return deger;
+    }
+
+    public static String metin(long anahtar) {
+        return ONEK + anahtar;
+    }
+
+    public static StringBuilder yaz(long anahtar, StringBuilder hedef) {
+        return hedef.append(ONEK).append(anahtar);
+    }
+}
@@ -0,0 +1,44 @@
+package ortak;
+
+// ===============================
+// Nesne Tipi (eklenti arayüzü)
+// ===============================
+// Bir madde tipi davranışını değer olarak bildirir; envanter, kolon deposu ve
+// metrikler tipi bu değerlerden tablolara çevirip küçük tam sayı koduyla okur.
+// Kod 0-127 arasıdır ve dosya/günlük kayıtlarında saklanır: yayımlanmış bir tipin
+// kodu değiştirilmemelidir. 0-2 yerleşik tiplere ayrılmıştır. Ek tipler sınıf
+// yolundaki META-INF/services/ortak.NesneTipi dosyasıyla bulunur (ServiceLoader);
+// sağlayıcı sınıf public olmalı ve argümansız kurucusu bulunmalıdır.
+public interface NesneTipi {
+
+    int kod();
+
+    String ad();
+
+    // Analiz başına stabilite kaybı
+    double bozunma();
+
+    // Kritik tipler acil soğutulabilir
+    boolean kritik();
+
+    // Acil soğutmada eklenen stabilite
+    default double sogutma() {
+        return 50;
+    }
+
+    // Tekil analizde (analizEt) tipe özgü log satırı; varsayılan olarak yazılmaz
+    default void analizBildir() {
+    }
+
+    // Arayüzde envanter kartının çerçeve rengi
+    default String renk() {
+        return "#00ff41";
+    }
+
+    // anahtar: "QN-" önekinden sonraki sayı (bkz. NesneKimligi)
+    default KuantumNesnesi olustur(long anahtar, double stabilite, int tehlike) {
+        return kritik()
+                ? new TanimliKritikNesne(kod(), anahtar, stabilite, tehlike)
+                : new TanimliNesne(kod(), anahtar, stabilite, tehlike);
+    }
+}
@@ -0,0 +1,351 @@
+package ortak;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+// ===============================
+// Parçalı Envanter (çekirdek başına depo)
+// ===============================
+// Nesneler anahtarlarının karışımına göre N parçaya dağıtılır. Her parçanın
+// kendi EnvanterDeposu'su ve tek iş parçacıklı yürütücüsü (posta kutusu) vardır;
+// depoya yalnızca o iş parçacığı dokunur, bu yüzden parçalar arasında kilit yoktur.
+// Tek nesne işlemleri sahip parçaya gönderilip sonucu beklenir; listeleme,
+// sayımlar, risk sorguları ve toplu analiz/soğutma tüm parçalara dağıtılıp
+// sonuçlar birleştirilir (scatter-gather). Dinleyiciler parça iş parçacıklarında,
+// eş zamanlı çağrılır. Parça iş parçacıklarından (dinleyicilerden) bu sınıfa
+// geri çağrı yapılmamalıdır: parça kendi kuyruğunu bekleyerek kilitlenir.
+public class ParcaliEnvanter implements Envanter, AutoCloseable {
+
+    private static final long KARISTIRICI = 0x9E3779B97F4A7C15L;
+
+    private final Parca[] parcalar;
+    private final ParcaliRiskIndeksi riskIndeksi = new ParcaliRiskIndeksi();
+
+    public ParcaliEnvanter(int parcaSayisi) {
+        if (parcaSayisi < 1) throw new IllegalArgumentException("Geçersiz parça sayısı: " + parcaSayisi);
+        parcalar = new Parca[parcaSayisi];
+        for (int i = 0; i < parcaSayisi; i++) parcalar[i] = new Parca(i);
+    }
+
+    // Çekirdek başına bir parça
+    public ParcaliEnvanter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public int parcaSayisi() {
+        return parcalar.length;
+    }
+
+    // Ardışık anahtarlar da parçalara eşit dağılır
+    public int parcaNo(long anahtar) {
+        return (int) (((anahtar * KARISTIRICI) >>> 32) % parcalar.length);
+    }
+
+    private Parca sahip(long anahtar) {
+        return parcalar[parcaNo(anahtar)];
+    }
+
+    // ===============================
+    // Tek nesne işlemleri (sahip parçada)
+    // ===============================
+    @Override
+    public void ekle(KuantumNesnesi nesne) {
+        Parca p = sahip(nesne.getAnahtar());
+        bekle(p.iste(depo -> {
+            depo.ekle(nesne);
+            p.degisti();
+            return null;
+        }));
+    }
+
+    // Nesneler parçalara bölünür, her parçaya tek görev gider; parçalar paralel ekler
+    @Override
+    public List<KuantumNesnesi> topluEkle(List<KuantumNesnesi> nesneler) {
+        List<List<KuantumNesnesi>> gruplar = new ArrayList<>(parcalar.length);
+        for (int i = 0; i < parcalar.length; i++) gruplar.add(new ArrayList<>(nesneler.size() / parcalar.length + 1));
+        for (KuantumNesnesi n : nesneler) gruplar.get(parcaNo(n.getAnahtar())).add(n);
+
+        List<CompletableFuture<List<KuantumNesnesi>>> bekleyen = new ArrayList<>(parcalar.length);
+        for (int i = 0; i < parcalar.length; i++) {
+            List<KuantumNesnesi> grup = gruplar.get(i);
+            if (grup.isEmpty()) continue;
+            Parca p = parcalar[i];
+            bekleyen.add(p.iste(depo -> {
+                List<KuantumNesnesi> reddedilen = depo.topluEkle(grup);
+                p.degisti();
+                return reddedilen;
+            }));
+        }
+        List<KuantumNesnesi> reddedilen = new ArrayList<>();
+        for (CompletableFuture<List<KuantumNesnesi>> f : bekleyen) reddedilen.addAll(bekle(f));
+        return reddedilen;
+    }
+
+    @Override
+    public KuantumNesnesi cikar(long anahtar) {
+        Parca p = sahip(anahtar);
+        return bekle(p.iste(depo -> {
+            KuantumNesnesi n = depo.cikar(anahtar);
+            if (n != null) p.degisti();
+            return n;
+        }));
+    }
+
+    @Override
+    public KuantumNesnesi bul(long anahtar) {
+        return bekle(sahip(anahtar).iste(depo -> depo.bul(anahtar)));
+    }
+
+    @Override
+    public boolean iceriyor(long anahtar) {
+        return bekle(sahip(anahtar).iste(depo -> depo.iceriyor(anahtar)));
+    }
+
+    @Override
+    public <T> T sahibinde(KuantumNesnesi nesne, Function<KuantumNesnesi, T> islem) {
+        return bekle(sahip(nesne.getAnahtar()).iste(depo -> islem.apply(nesne)));
+    }
+
+    @Override
+    public void sahiplerinde(List<KuantumNesnesi> nesneler, ObjIntConsumer<KuantumNesnesi> islem) {
+        int[] sayilar = new int[parcalar.length];
+        int[] parca = new int[nesneler.size()];
+        for (int i = 0; i < parca.length; i++) sayilar[parca[i] = parcaNo(nesneler.get(i).getAnahtar())]++;
+        int[][] sira = new int[parcalar.length][];
+        for (int j = 0; j < sira.length; j++) sira[j] = new int[sayilar[j]];
+        Arrays.fill(sayilar, 0);
+        for (int i = 0; i < parca.length; i++) sira[parca[i]][sayilar[parca[i]]++] = i;
+
+        List<CompletableFuture<Void>> bekleyen = new ArrayList<>(parcalar.length);
+        for (int j = 0; j < parcalar.length; j++) {
+            int[] grup = sira[j];
+            if (grup.length == 0) continue;
+            bekleyen.add(parcalar[j].iste(depo -> {
+                for (int i : grup) islem.accept(nesneler.get(i), i);
+                return null;
+            }));
+        }
+        for (CompletableFuture<Void> f : bekleyen) bekle(f);
+    }
+
+    // ===============================
+    // Dağıt / topla
+    // ===============================
+
+    // Her parçada aynı işlemi çalıştırır, sonuçları parça sırasıyla döner
+    <T> List<T> herParcada(Function<EnvanterDeposu, T> islem) {
+        List<CompletableFuture<T>> bekleyen = new ArrayList<>(parcalar.length);
+        for (Parca p : parcalar) bekleyen.add(p.iste(islem));
+        List<T> sonuc = new ArrayList<>(parcalar.length);
+        for (CompletableFuture<T> f : bekleyen) sonuc.add(bekle(f));
+        return sonuc;
+    }
+
+    @Override
+    public int tipSayisi(int tipKodu) {
+        if (!TipKayitDefteri.gecerli(tipKodu)) {
+            throw new IllegalArgumentException("Geçersiz tip kodu: " + tipKodu);
+        }
+        int toplam = 0;
+        for (int s : herParcada(depo -> depo.tipSayisi(tipKodu))) toplam += s;
+        return toplam;
+    }
+
+    // Sayımlar parçaların yayınladığı değerlerden okunur; posta kutusu beklenmez
+    @Override
+    public int kritikSayisi() {
+        int toplam = 0;
+        for (Parca p : parcalar) toplam += p.kritikSayisi;
+        return toplam;
+    }
+
+    @Override
+    public int boyut() {
+        int toplam = 0;
+        for (Parca p : parcalar) toplam += p.boyut;
+        return toplam;
+    }
+
+    @Override
+    public RiskIndeksi riskIndeksi() {
+        return riskIndeksi;
+    }
+
+    // Her parçanın deposuna eklenir; parça deposu dinleyici listesini iş parçacığı güvenli tutar
+    @Override
+    public void dinleyiciEkle(StabiliteDinleyicisi dinleyici) {
+        for (Parca p : parcalar) p.depo.dinleyiciEkle(dinleyici);
+    }
+
+    // Tüm parçaların anlık kopyası; sıra parça sırasıdır
+    @Override
+    public Iterator<KuantumNesnesi> iterator() {
+        List<KuantumNesnesi[]> diziler = herParcada(depo -> {
+            KuantumNesnesi[] dizi = new KuantumNesnesi[depo.boyut()];
+            int i = 0;
+            for (KuantumNesnesi n : depo) dizi[i++] = n;
+            return dizi;
+        });
+        List<KuantumNesnesi> hepsi = new ArrayList<>(boyut());
+        for (KuantumNesnesi[] d : diziler) Collections.addAll(hepsi, d);
+        return Collections.unmodifiableList(hepsi).iterator();
+    }
+
+    // Sorgunun sayfası her parçada ayrı çıkarılır; birleştirme EnvanterSorgusu'ndadır
+    public List<EnvanterSorgusu.Sayfa> sayfalar(EnvanterSorgusu sablon, EnvanterSorgusu.Imlec imlec) {
+        return herParcada(depo -> sablon.kopya().sayfa(depo, imlec));
+    }
+
+    // ===============================
+    // Toplu işlemler (her parça kendi nesnelerini sırayla işler)
+    // ===============================
+    public TopluIslem.Ozet analizEt(Predicate<KuantumNesnesi> filtre) {
+        long baslangic = System.nanoTime();
+        Metrikler metrikler = Metrikler.sistem();
+        int islenen = 0;
+        List<KuantumCokusuException> cokusler = new ArrayList<>();
+        for (TopluIslem.Ozet o : herParcada(depo -> {
+            int sayi = 0;
+            List<KuantumCokusuException> coken = new ArrayList<>();
+            for (KuantumNesnesi n : depo) {
+                if (!filtre.test(n)) continue;
+                sayi++;
+                if (metrikler.analiz(n) == AnalizSonucu.COKTU) coken.add(new KuantumCokusuException(n.getId()));
+            }
+            return new TopluIslem.Ozet(sayi, 0, coken, 0);
+        })) {
+            islenen += o.islenen;
+            cokusler.addAll(o.cokusler);
+        }
+        return new TopluIslem.Ozet(islenen, 0, cokusler, System.nanoTime() - baslangic);
+    }
+
+    public TopluIslem.Ozet sogut(Predicate<KuantumNesnesi> filtre) {
+        long baslangic = System.nanoTime();
+        Metrikler metrikler = Metrikler.sistem();
+        int islenen = 0;
+        int sogutulan = 0;
+        for (int[] o : herParcada(depo -> {
+            int[] sayi = new int[2];
+            for (KuantumNesnesi n : depo) {
+                if (!filtre.test(n)) continue;
+                sayi[0]++;
+                if (metrikler.sogut(n)) sayi[1]++;
+            }
+            return sayi;
+        })) {
+            islenen += o[0];
+            sogutulan += o[1];
+        }
+        return new TopluIslem.Ozet(islenen, sogutulan, List.of(), System.nanoTime() - baslangic);
+    }
+
+    // Bekleyen işler bitirilir, parça iş parçacıkları durdurulur
+    @Override
+    public void close() {
+        for (Parca p : parcalar) p.yurutucu.shutdown();
+        for (Parca p : parcalar) {
+            try {
+                if (!p.yurutucu.awaitTermination(5, TimeUnit.SECONDS)) {
+                    LogHatti.sistem().uyari("Envanter parçası zamanında durmadı: " + p.no);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Parçada fırlatılan istisna çağıranın iş parçacığında aynen fırlatılır
+    private static <T> T bekle(CompletableFuture<T> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            if (e.getCause() instanceof Error h) throw h;
+            throw e;
+        }
+    }
+
+    // ===============================
+    // Parça
+    // ===============================
+    private static final class Parca {
+        final int no;
+        final EnvanterDeposu depo = new EnvanterDeposu();
+        final ExecutorService yurutucu;
+        // Parça iş parçacığı yazar, diğerleri posta kutusunu beklemeden okur
+        volatile int boyut;
+        volatile int kritikSayisi;
+
+        Parca(int no) {
+            this.no = no;
+            this.yurutucu = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "envanter-parca-" + no);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        <T> CompletableFuture<T> iste(Function<EnvanterDeposu, T> islem) {
+            return CompletableFuture.supplyAsync(() -> islem.apply(depo), yurutucu);
+        }
+
+        // Yalnızca parça iş parçacığında
+        void degisti() {
+            boyut = depo.boyut();
+            kritikSayisi = depo.kritikSayisi();
+        }
+    }
+
+    // ===============================
+    // Parçalı Risk İndeksi
+    // ===============================
+    // Her parçanın kendi risk indeksi vardır; sorgular parçalarda çalışır ve
+    // birleştirilir. Bu nesnenin kendi kayıtları boştur, dinleyici olarak bağlanmaz.
+    private final class ParcaliRiskIndeksi extends RiskIndeksi {
+
+        private static final Comparator<KuantumNesnesi> RISK = Comparator
+                .comparingDouble(KuantumNesnesi::getStabilite)
+                .thenComparingInt(n -> -n.getTehlikeSeviyesi())
+                .thenComparingLong(KuantumNesnesi::getAnahtar);
+
+        // Her parçanın en riskli k'sı; birleşik listenin ilk k'sı
+        @Override
+        public List<KuantumNesnesi> enRiskliKritikler(int k) {
+            List<KuantumNesnesi> adaylar = new ArrayList<>();
+            for (List<KuantumNesnesi> l : herParcada(depo -> depo.riskIndeksi().enRiskliKritikler(k))) {
+                adaylar.addAll(l);
+            }
+            adaylar.sort(RISK);
+            return adaylar.size() > k ? new ArrayList<>(adaylar.subList(0, k)) : adaylar;
+        }
+
+        @Override
+        public int esikAltindaSayisi(int esik) {
+            int toplam = 0;
+            for (int s : herParcada(depo -> depo.riskIndeksi().esikAltindaSayisi(esik))) toplam += s;
+            return toplam;
+        }
+
+        @Override
+        public int[] dagilim(int genislik) {
+            int[] sonuc = null;
+            for (int[] d : herParcada(depo -> depo.riskIndeksi().dagilim(genislik))) {
+                if (sonuc == null) {
+                    sonuc = d;
+                } else {
+                    for (int i = 0; i < d.length; i++) sonuc[i] += d[i];
+                }
+            }
+            return sonuc;
+        }
+    }
+}
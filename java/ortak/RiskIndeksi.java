@@ -0,0 +1,154 @@
+package ortak;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+// ===============================
+// Risk İndeksi
+// ===============================
+// Tüm nesneler %1'lik kovalarda sayılır; kritik nesneler ayrıca kovalarının
+// listesine bağlanır. "En riskli k" sorgusu en düşük kovadan başlayıp k aday
+// toplanınca durur; yalnızca toplanan adaylar tam stabiliteye göre sıralanır.
+//
+// Ayrı bir nesne -> kova haritası yoktur: kova ve liste komşuları nesnenin kendi
+// alanlarındadır, değişiklik yolunda nesne ayrılmaz. Nesnenin kova değişikliği
+// o nesnenin monitöründe, liste değişikliği kovanın monitöründe yapılır; farklı
+// iş parçacıklarındaki değişiklikler (eş zamanlı envanter, toplu analiz, zincirleme
+// çöküş) tek bir monitörde sıraya girmez, kova sayaçları LongAdder'dır.
+public class RiskIndeksi implements StabiliteDinleyicisi {
+
+    // Çıkarılan nesnenin kovası; sonra gelen bildirim sayaçlara dokunmaz
+    private static final int CIKARILDI = -1;
+    private static final int KOVA_SAYISI = 101;
+
+    // Sıralama sorgu anındaki stabilite kopyasıyla yapılır; nesnenin değeri
+    // sıralama sırasında değişse de karşılaştırma tutarlı kalır
+    private static final class Aday {
+        final KuantumNesnesi nesne;
+        final double stabilite;
+
+        Aday(KuantumNesnesi nesne) {
+            this.nesne = nesne;
+            this.stabilite = nesne.getStabilite();
+        }
+    }
+
+    private static final Comparator<Aday> SIRA = Comparator
+            .comparingDouble((Aday a) -> a.stabilite)
+            .thenComparingInt(a -> -a.nesne.getTehlikeSeviyesi())
+            .thenComparingLong(a -> a.nesne.getAnahtar());
+
+    // Bir kovanın kritik nesneleri: nesnelerin riskOnceki/riskSonraki alanlarıyla
+    // bağlı çift yönlü liste
+    private static final class Kova {
+        private KuantumNesnesi bas;
+
+        synchronized void bagla(KuantumNesnesi n) {
+            n.riskOnceki = null;
+            n.riskSonraki = bas;
+            if (bas != null) bas.riskOnceki = n;
+            bas = n;
+        }
+
+        synchronized void coz(KuantumNesnesi n) {
+            KuantumNesnesi o = n.riskOnceki;
+            KuantumNesnesi s = n.riskSonraki;
+            if (o != null) o.riskSonraki = s;
+            else bas = s;
+            if (s != null) s.riskOnceki = o;
+            n.riskOnceki = null;
+            n.riskSonraki = null;
+        }
+
+        synchronized void topla(List<Aday> hedef) {
+            for (KuantumNesnesi n = bas; n != null; n = n.riskSonraki) hedef.add(new Aday(n));
+        }
+    }
+
+    private final LongAdder[] kovaSayilari = new LongAdder[KOVA_SAYISI];
+    private final Kova[] kritikKovalar = new Kova[KOVA_SAYISI];
+
+    public RiskIndeksi() {
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            kovaSayilari[i] = new LongAdder();
+            kritikKovalar[i] = new Kova();
+        }
+    }
+
+    public void ekle(KuantumNesnesi nesne) {
+        synchronized (nesne) {
+            if (nesne.riskKovasi != CIKARILDI) return;
+            int kova = kova(nesne.getStabilite());
+            nesne.riskKovasi = kova;
+            kovaSayilari[kova].increment();
+            if (nesne instanceof IKritik) kritikKovalar[kova].bagla(nesne);
+        }
+    }
+
+    public void cikar(KuantumNesnesi nesne) {
+        synchronized (nesne) {
+            int kova = nesne.riskKovasi;
+            if (kova == CIKARILDI) return;
+            nesne.riskKovasi = CIKARILDI;
+            kovaSayilari[kova].decrement();
+            if (nesne instanceof IKritik) kritikKovalar[kova].coz(nesne);
+        }
+    }
+
+    // Bildirimde iletilen değer yerine güncel değer okunur; aynı nesnenin eş zamanlı
+    // bildirimleri monitörde sıraya girer, sonuncusu son durumu yazar
+    @Override
+    public void stabiliteDegisti(KuantumNesnesi nesne) {
+        synchronized (nesne) {
+            int eski = nesne.riskKovasi;
+            if (eski == CIKARILDI) return;
+            int yeni = kova(nesne.getStabilite());
+            if (eski == yeni) return;
+            nesne.riskKovasi = yeni;
+            kovaSayilari[eski].decrement();
+            kovaSayilari[yeni].increment();
+            if (nesne instanceof IKritik) {
+                kritikKovalar[eski].coz(nesne);
+                kritikKovalar[yeni].bagla(nesne);
+            }
+        }
+    }
+
+    // En düşük stabiliteli k kritik nesne, en riskliden başlayarak. Kovalar
+    // düşükten yükseğe gezilir; k aday toplanan kovadan sonra durulur.
+    public List<KuantumNesnesi> enRiskliKritikler(int k) {
+        if (k <= 0) return new ArrayList<>();
+        List<Aday> adaylar = new ArrayList<>();
+        for (int kova = 0; kova < KOVA_SAYISI && adaylar.size() < k; kova++) {
+            kritikKovalar[kova].topla(adaylar);
+        }
+        adaylar.sort(SIRA);
+        List<KuantumNesnesi> sonuc = new ArrayList<>(Math.min(k, adaylar.size()));
+        for (int i = 0; i < adaylar.size() && i < k; i++) sonuc.add(adaylar.get(i).nesne);
+        return sonuc;
+    }
+
+    // Stabilitesi esik'in (tam sayı yüzde) altında olan nesne sayısı
+    public int esikAltindaSayisi(int esik) {
+        long toplam = 0;
+        for (int i = 0; i < Math.min(esik, KOVA_SAYISI); i++) {
+            toplam += kovaSayilari[i].sum();
+        }
+        return (int) toplam;
+    }
+
+    // Stabilite dağılımı: genislik'lik (tam sayı yüzde) aralıklardaki nesne sayıları;
+    // son aralık 100'ü de kapsar
+    public int[] dagilim(int genislik) {
+        int[] sonuc = new int[(100 + genislik - 1) / genislik];
+        for (int i = 0; i < KOVA_SAYISI; i++) {
+            sonuc[Math.min(i / genislik, sonuc.length - 1)] += (int) kovaSayilari[i].sum();
+        }
+        return sonuc;
+    }
+
+    // Stabilite 0-100 arasıdır; %1'lik kova
+    public static int kova(double stabilite) {
+        return (int) stabilite;
+    }
+}
@@ -0,0 +1,39 @@
+package ortak;
+
+// ===============================
+// Sayı Biçimi (sabit hassasiyet)
+// ===============================
+// String.format("%.1f") yerine: ondalık sayıyı doğrudan hedefe yazar, Formatter,
+// ara String veya BigDecimal oluşturmaz. Yuvarlama yarımda yukarıdır. Çok büyük
+// değerler, NaN ve sonsuz StringBuilder.append(double) ile yazılır.
+public final class SayiBicimi {
+
+    private static final long[] ON_US = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    // Ölçeklenen değer bunun altında kalırsa double -> long dönüşümü tamdır
+    private static final double OLCEK_SINIRI = 1e15;
+
+    private SayiBicimi() {
+    }
+
+    public static StringBuilder ondalik(StringBuilder hedef, double deger, int basamak) {
+        if (basamak < 0 || basamak >= ON_US.length) {
+            throw new IllegalArgumentException("Geçersiz basamak sayısı: " + basamak);
+        }
+        long carpan = ON_US[basamak];
+        double mutlak = Math.abs(deger);
+        if (!(mutlak * carpan < OLCEK_SINIRI)) return hedef.append(deger);
+
+        long olcekli = Math.round(mutlak * carpan);
+        if (deger < 0 && olcekli != 0) hedef.append('-');
+        hedef.append(olcekli / carpan);
+        if (basamak == 0) return hedef;
+
+        long kesir = olcekli % carpan;
+        hedef.append('.');
+        // Baştaki sıfırlar: 0.05 -> "05"
+        for (long b = carpan / 10; b > kesir && b > 1; b /= 10) hedef.append('0');
+        return hedef.append(kesir);
+    }
+}
@@ -0,0 +1,23 @@
+package ortak;
+
+// ===============================
+// Stabilite Dinleyicisi
+// ===============================
+// Stabilite her değiştiğinde, değişikliği yapan iş parçacığında çağrılır.
+// Diğer olaylar isteğe bağlıdır: ekleme/çıkarma envanterden, soğutma ve çöküş
+// nesneden bildirilir.
+public interface StabiliteDinleyicisi {
+    void stabiliteDegisti(KuantumNesnesi nesne);
+
+    default void eklendi(KuantumNesnesi nesne) {
+    }
+
+    default void cikarildi(KuantumNesnesi nesne) {
+    }
+
+    default void sogutuldu(KuantumNesnesi nesne) {
+    }
+
+    default void coktu(KuantumNesnesi nesne) {
+    }
+}
@@ -0,0 +1,17 @@
+package ortak;
+
+// ===============================
+// Tanımlı Kritik Nesne
+// ===============================
+// Eklenti kritik tiplerinin nesneleri: soğutma miktarı tipin tablosundan gelir
+class TanimliKritikNesne extends TanimliNesne implements IKritik {
+
+    TanimliKritikNesne(int tipKodu, long anahtar, double stabilite, int tehlike) {
+        super(tipKodu, anahtar, stabilite, tehlike);
+    }
+
+    @Override
+    public void acilDurumSogutmasi() {
+        sogutmaUygula();
+    }
+}
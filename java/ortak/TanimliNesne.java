@@ -0,0 +1,12 @@
+package ortak;
+
+// ===============================
+// Tanımlı Nesne
+// ===============================
+// Eklenti tiplerinin nesneleri: davranış tamamen tablolardan gelir
+class TanimliNesne extends KuantumNesnesi {
+
+    TanimliNesne(int tipKodu, long anahtar, double stabilite, int tehlike) {
+        super(tipKodu, anahtar, stabilite, tehlike);
+    }
+}
@@ -0,0 +1,175 @@
+package ortak;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+// ===============================
+// Tip Kayıt Defteri
+// ===============================
+// Yerleşik tipler ve ServiceLoader ile bulunan eklenti tipleri sınıf
+// yüklenirken bir kez okunur ve koda göre dizilere açılır. Sıcak yollar
+// (analiz, soğutma, kolon döngüleri) yalnızca dizi okur; getSimpleName() ya da
+// tip başına sanal çağrı yapılmaz. Kullanılmayan kodların satırları boştur.
+public final class TipKayitDefteri {
+
+    public static final int MAKS_KOD = 127;
+    public static final int VERI_PAKETI = 0;
+    public static final int KARANLIK_MADDE = 1;
+    public static final int ANTI_MADDE = 2;
+
+    // Koda göre; kullanılmayan kodlarda null / 0
+    private static final NesneTipi[] TIPLER;
+    public static final double[] BOZUNMA;
+    public static final double[] SOGUTMA;
+    public static final boolean[] KRITIK;
+    public static final String[] AD;
+    // Kod sırasıyla kayıtlı tipler
+    private static final List<NesneTipi> LISTE;
+
+    static {
+        List<NesneTipi> bulunan = new ArrayList<>(Arrays.asList(YerlesikTip.values()));
+        for (NesneTipi tip : ServiceLoader.load(NesneTipi.class)) {
+            bulunan.add(tip);
+        }
+
+        int enBuyuk = 0;
+        for (NesneTipi tip : bulunan) {
+            if (tip.kod() < 0 || tip.kod() > MAKS_KOD) {
+                throw new IllegalStateException("Geçersiz tip kodu " + tip.kod() + ": " + tip.ad());
+            }
+            enBuyuk = Math.max(enBuyuk, tip.kod());
+        }
+
+        TIPLER = new NesneTipi[enBuyuk + 1];
+        BOZUNMA = new double[enBuyuk + 1];
+        SOGUTMA = new double[enBuyuk + 1];
+        KRITIK = new boolean[enBuyuk + 1];
+        AD = new String[enBuyuk + 1];
+        for (NesneTipi tip : bulunan) {
+            int k = tip.kod();
+            if (TIPLER[k] != null) {
+                throw new IllegalStateException("Tip kodu " + k + " iki kez kayıtlı: " + TIPLER[k].ad() + ", " + tip.ad());
+            }
+            TIPLER[k] = tip;
+            BOZUNMA[k] = tip.bozunma();
+            SOGUTMA[k] = tip.sogutma();
+            KRITIK[k] = tip.kritik();
+            AD[k] = tip.ad();
+        }
+
+        List<NesneTipi> liste = new ArrayList<>();
+        for (NesneTipi tip : TIPLER) {
+            if (tip != null) liste.add(tip);
+        }
+        LISTE = Collections.unmodifiableList(liste);
+    }
+
+    private TipKayitDefteri() {
+    }
+
+    public static boolean gecerli(int kod) {
+        return kod >= 0 && kod < TIPLER.length && TIPLER[kod] != null;
+    }
+
+    public static NesneTipi tip(int kod) {
+        if (!gecerli(kod)) throw new IllegalArgumentException("Geçersiz tip kodu: " + kod);
+        return TIPLER[kod];
+    }
+
+    // Büyük-küçük harf duyarsız, bulunamazsa null
+    public static NesneTipi adIle(String ad) {
+        for (NesneTipi tip : LISTE) {
+            if (tip.ad().equalsIgnoreCase(ad)) return tip;
+        }
+        return null;
+    }
+
+    public static List<NesneTipi> tipler() {
+        return LISTE;
+    }
+
+    // Tip kodlarıyla indekslenen dizilerin boyu (en büyük kod + 1)
+    public static int kodAraligi() {
+        return TIPLER.length;
+    }
+
+    public static KuantumNesnesi olustur(int kod, long anahtar, double stabilite, int tehlike) {
+        return tip(kod).olustur(anahtar, stabilite, tehlike);
+    }
+
+    // ===============================
+    // Yerleşik Tipler
+    // ===============================
+    enum YerlesikTip implements NesneTipi {
+        VERI_PAKETI(TipKayitDefteri.VERI_PAKETI, "VeriPaketi", 5, false, "#4ecdc4") {
+            @Override
+            public KuantumNesnesi olustur(long anahtar, double stabilite, int tehlike) {
+                return new VeriPaketi(anahtar, stabilite, tehlike);
+            }
+
+            @Override
+            public void analizBildir() {
+                LogHatti.sistem().bilgi("Veri içeriği okundu.");
+            }
+        },
+        KARANLIK_MADDE(TipKayitDefteri.KARANLIK_MADDE, "KaranlikMadde", 15, true, "#f38181") {
+            @Override
+            public KuantumNesnesi olustur(long anahtar, double stabilite, int tehlike) {
+                return new KaranlikMadde(anahtar, stabilite, tehlike);
+            }
+        },
+        ANTI_MADDE(TipKayitDefteri.ANTI_MADDE, "AntiMadde", 25, true, "#ff6b6b") {
+            @Override
+            public KuantumNesnesi olustur(long anahtar, double stabilite, int tehlike) {
+                return new AntiMadde(anahtar, stabilite, tehlike);
+            }
+
+            @Override
+            public void analizBildir() {
+                LogHatti.sistem().uyari("EVRENİN DOKUSU TİTRİYOR...");
+            }
+        };
+
+        private final int kod;
+        private final String ad;
+        private final double bozunma;
+        private final boolean kritik;
+        private final String renk;
+
+        YerlesikTip(int kod, String ad, double bozunma, boolean kritik, String renk) {
+            this.kod = kod;
+            this.ad = ad;
+            this.bozunma = bozunma;
+            this.kritik = kritik;
+            this.renk = renk;
+        }
+
+        @Override
+        public int kod() {
+            return kod;
+        }
+
+        @Override
+        public String ad() {
+            return ad;
+        }
+
+        @Override
+        public double bozunma() {
+            return bozunma;
+        }
+
+        @Override
+        public boolean kritik() {
+            return kritik;
+        }
+
+        @Override
+        public String renk() {
+            return renk;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ortak;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// ===============================
+// Toplu Analiz / Soğutma
+// ===============================
+public class TopluIslem {
+
+    public static class Ozet {
+        final int islenen;
+        final int sogutulan;
+        public final List<KuantumCokusuException> cokusler;
+        final long sureNanos;
+
+        public Ozet(int islenen, int sogutulan, List<KuantumCokusuException> cokusler, long sureNanos) {
+            this.islenen = islenen;
+            this.sogutulan = sogutulan;
+            this.cokusler = cokusler;
+            this.sureNanos = sureNanos;
+        }
+
+        public int coken() {
+            return cokusler.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("İşlenen: %d | Çöken: %d | Soğutulan: %d | Süre: %.2f ms",
+                    islenen, coken(), sogutulan, sureNanos / 1_000_000.0);
+        }
+    }
+
+    // ===============================
+    // Filtreler
+    // ===============================
+    public static Predicate<KuantumNesnesi> tumu() {
+        return n -> true;
+    }
+
+    // Kolon görünümleri dahil, TipKayitDefteri koduna göre
+    public static Predicate<KuantumNesnesi> tipKodu(int kod) {
+        return n -> n.getTipKodu() == kod;
+    }
+
+    public static Predicate<KuantumNesnesi> tehlikeEnAz(int seviye) {
+        return n -> n.getTehlikeSeviyesi() >= seviye;
+    }
+
+    static Predicate<KuantumNesnesi> stabiliteAltinda(double esik) {
+        return n -> n.getStabilite() < esik;
+    }
+
+    // min ve maks dahil
+    static Predicate<KuantumNesnesi> stabiliteAraligi(double min, double maks) {
+        return n -> n.getStabilite() >= min && n.getStabilite() <= maks;
+    }
+
+    // "30" -> 30'un altı, "10-30" -> 10..30 aralığı
+    public static Predicate<KuantumNesnesi> stabiliteFiltresi(String ifade) {
+        int tire = ifade.indexOf('-', 1);
+        if (tire < 0) return stabiliteAltinda(Double.parseDouble(ifade));
+        return stabiliteAraligi(Double.parseDouble(ifade.substring(0, tire).trim()),
+                Double.parseDouble(ifade.substring(tire + 1).trim()));
+    }
+
+    // ===============================
+    // İşlemler
+    // ===============================
+
+    // Her nesne tek bir iş parçacığında işlenir; çöküşler toplanır, işlem durmaz.
+    // İstisna yalnızca çöken nesneler için oluşturulur. Parçalı envanterde her parça
+    // kendi nesnelerini kendi iş parçacığında işler.
+    public static Ozet analizEt(Iterable<KuantumNesnesi> envanter, Predicate<KuantumNesnesi> filtre) {
+        if (envanter instanceof ParcaliEnvanter parcali) return parcali.analizEt(filtre);
+        long baslangic = System.nanoTime();
+        List<KuantumNesnesi> hedefler = sec(envanter, filtre);
+
+        Metrikler metrikler = Metrikler.sistem();
+        List<KuantumCokusuException> cokusler = hedefler.parallelStream()
+                .filter(n -> metrikler.analiz(n) == AnalizSonucu.COKTU)
+                .map(n -> new KuantumCokusuException(n.getId()))
+                .collect(Collectors.toList());
+
+        return new Ozet(hedefler.size(), 0, cokusler, System.nanoTime() - baslangic);
+    }
+
+    public static Ozet sogut(Iterable<KuantumNesnesi> envanter, Predicate<KuantumNesnesi> filtre) {
+        if (envanter instanceof ParcaliEnvanter parcali) return parcali.sogut(filtre);
+        long baslangic = System.nanoTime();
+        List<KuantumNesnesi> hedefler = sec(envanter, filtre);
+
+        Metrikler metrikler = Metrikler.sistem();
+        int sogutulan = hedefler.parallelStream()
+                .mapToInt(n -> metrikler.sogut(n) ? 1 : 0)
+                .sum();
+
+        return new Ozet(hedefler.size(), sogutulan, List.of(), System.nanoTime() - baslangic);
+    }
+
+    private static List<KuantumNesnesi> sec(Iterable<KuantumNesnesi> envanter, Predicate<KuantumNesnesi> filtre) {
+        List<KuantumNesnesi> hedefler = new ArrayList<>();
+        for (KuantumNesnesi n : envanter) {
+            if (filtre.test(n)) hedefler.add(n);
+        }
+        return hedefler;
+    }
+}
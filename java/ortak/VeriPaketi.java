@@ -0,0 +1,11 @@
+package ortak;
+
+// ===============================
+// VeriPaketi (IKritik DEĞİL)
+// ===============================
+public class VeriPaketi extends KuantumNesnesi {
+
+    public VeriPaketi(long anahtar, double stabilite, int tehlike) {
+        super(TipKayitDefteri.VERI_PAKETI, anahtar, stabilite, tehlike);
+    }
+}
@@ -0,0 +1,248 @@
+package ortak;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// ===============================
+// Zincirleme Çöküş (gerçekçi mod)
+// ===============================
+// Çöken nesne, tehlike seviyesiyle orantılı yarıçaptaki komşularına hasar verir;
+// hasar mesafeyle azalır, hasar alan komşu da çökebilir.
+//
+// Zincirin sınırlı kalması: bir çöküşün komşularına dağıttığı toplam hasar
+// tehlike x HASAR_CARPANI'dır (en çok 50 puan), yarıçap büyüdükçe komşu başına
+// düşen hasar azalır. Stabiliteler 1-100 arasında dağıldığında bir çöküşün yol
+// açtığı beklenen yeni çöküş sayısı (dallanma) yaklaşık toplam hasar / 100'dür:
+// tehlike 10'da ~0,5, ortalama tehlikede ~0,25. Dallanma 1'in altında kaldığı için
+// zincir söner; tek bir çöküşün beklenen zinciri tehlike 10'da en çok ~2 nesnedir
+// ve zincir boyu yayılma alanıyla değil, çöküşü başlatan nesne sayısıyla orantılıdır.
+// Merkez hasarı komşu başına sabit olsaydı toplam hasar yarıçapın küpüyle büyür,
+// tek bir toplu analiz tüm depoyu çökertirdi. Nesneler ID sırasıyla
+// RAF_GENISLIGI genişliğindeki raflara dizilir: konum (anahtar % genişlik,
+// anahtar / genişlik). Komşuluk ızgarası anahtar -> nesne sayfalarıdır; ekleme ve
+// çıkarma bildirimleriyle güncel tutulur, komşu araması yalnızca yarıçaptaki
+// hücreleri okur.
+//
+// Çöküş bildirimi (parça iş parçacıklarından ya da toplu analizden de gelebilir)
+// yalnızca kuyruğa eklenir. Yayılma, komut bittikten sonra komutu çalıştıran iş
+// parçacığında yay() ile, özyinelemesiz ve dalga dalga yapılır. Bir dalganın
+// komşu hasarları toplanır ve Envanter.sahiplerinde ile sahip iş parçacığında
+// uygulanır; parçalı envanterde her parçaya dalga başına tek görev gider. Her
+// nesne yalnızca sıfıra indiği hasarda bir kez çöküş bildirir, envanter taranmaz.
+public class ZincirlemeCokus implements StabiliteDinleyicisi {
+
+    public static final int RAF_GENISLIGI = 1024;
+    // Yarıçap = tehlike seviyesi x bu değer (hücre)
+    public static final int YARICAP_CARPANI = 1;
+    // Bir çöküşün yarıçaptaki komşulara dağıttığı toplam hasar = tehlike seviyesi x bu değer
+    public static final double HASAR_CARPANI = 5;
+
+    private static final int SAYFA_BITI = 12;
+    private static final int SAYFA_MASKESI = (1 << SAYFA_BITI) - 1;
+
+    // Yarıçap -> dairedeki komşuların mesafe ağırlıkları toplamı (1 - mesafe / (yarıçap + 1));
+    // merkez hasarı toplam hasar bu değere bölünerek bulunur
+    private static final double[] AGIRLIK_TOPLAMI = new double[10 * YARICAP_CARPANI + 1];
+
+    static {
+        for (int r = 1; r < AGIRLIK_TOPLAMI.length; r++) {
+            double toplam = 0;
+            for (int dy = -r; dy <= r; dy++) {
+                int genislik = (int) Math.sqrt((double) r * r - (double) dy * dy);
+                for (int dx = -genislik; dx <= genislik; dx++) {
+                    if (dx == 0 && dy == 0) continue;
+                    toplam += 1 - Math.sqrt((double) dx * dx + (double) dy * dy) / (r + 1);
+                }
+            }
+            AGIRLIK_TOPLAMI[r] = toplam;
+        }
+    }
+
+    // Bir zincirin sonucu
+    public static final class Rapor {
+        public final long ilkAnahtar;
+        public final int coken;
+        public final long hasarVerilen;
+        public final int dalga;
+        public final long sureNanos;
+
+        Rapor(long ilkAnahtar, int coken, long hasarVerilen, int dalga, long sureNanos) {
+            this.ilkAnahtar = ilkAnahtar;
+            this.coken = coken;
+            this.hasarVerilen = hasarVerilen;
+            this.dalga = dalga;
+            this.sureNanos = sureNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(96).append("Zincirleme çöküş ");
+            NesneKimligi.yaz(ilkAnahtar, sb).append(": ").append(coken).append(" nesne çöktü, ")
+                    .append(hasarVerilen).append(" hasar, ").append(dalga).append(" dalga, ");
+            return SayiBicimi.ondalik(sb, sureNanos / 1e6, 2).append(" ms").toString();
+        }
+    }
+
+    // Bir dalganın komşu hasarları; hedefler ve miktar aynı sıradadır
+    private static final class Hasarlar {
+        final List<KuantumNesnesi> hedefler = new ArrayList<>();
+        double[] miktar = new double[64];
+
+        void ekle(KuantumNesnesi hedef, double m) {
+            int i = hedefler.size();
+            if (i == miktar.length) miktar = Arrays.copyOf(miktar, i * 2);
+            miktar[i] = m;
+            hedefler.add(hedef);
+        }
+    }
+
+    // Anahtar >> SAYFA_BITI -> sayfa; eş zamanlı eklemeler farklı hücrelere yazar
+    private final ConcurrentHashMap<Long, AtomicReferenceArray<KuantumNesnesi>> izgara = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<KuantumNesnesi> cokenler = new ConcurrentLinkedQueue<>();
+    private volatile boolean etkin;
+    private Envanter envanter;
+
+    private final LongAdder zincirSayisi = new LongAdder();
+    private final LongAdder toplamCoken = new LongAdder();
+    private volatile Rapor enBuyuk;
+
+    // Önce dinleyici olarak eklenir, sonra mevcut nesneler bir kez yerleştirilir;
+    // arada eklenen nesne iki kez yazılsa da aynı hücreye düşer. Izgara her zaman
+    // tutulur; çöküşler yalnızca etkinken kuyruğa girer.
+    public void bagla(Envanter envanter) {
+        this.envanter = envanter;
+        envanter.dinleyiciEkle(this);
+        for (KuantumNesnesi n : envanter) eklendi(n);
+    }
+
+    // Herhangi bir iş parçacığından; sonraki çöküşlerden itibaren geçerlidir
+    public void etkin(boolean etkin) {
+        this.etkin = etkin;
+    }
+
+    public boolean etkin() {
+        return etkin;
+    }
+
+    // ===============================
+    // Izgara bakımı
+    // ===============================
+    @Override
+    public void eklendi(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        izgara.computeIfAbsent(anahtar >>> SAYFA_BITI, s -> new AtomicReferenceArray<>(1 << SAYFA_BITI))
+                .set((int) anahtar & SAYFA_MASKESI, nesne);
+    }
+
+    // Hücredeki nesne anahtarla karşılaştırılır: bildirilen nesne ızgaradakiyle aynı
+    // örnek olmayabilir (kolon envanterinin görünümleri geçicidir, çıkarma kopya döner)
+    @Override
+    public void cikarildi(KuantumNesnesi nesne) {
+        long anahtar = nesne.getAnahtar();
+        AtomicReferenceArray<KuantumNesnesi> sayfa = izgara.get(anahtar >>> SAYFA_BITI);
+        if (sayfa == null) return;
+        int hucre = (int) anahtar & SAYFA_MASKESI;
+        KuantumNesnesi mevcut = sayfa.get(hucre);
+        if (mevcut != null && mevcut.getAnahtar() == anahtar) sayfa.compareAndSet(hucre, mevcut, null);
+    }
+
+    @Override
+    public void stabiliteDegisti(KuantumNesnesi nesne) {
+    }
+
+    @Override
+    public void coktu(KuantumNesnesi nesne) {
+        if (etkin) cokenler.add(nesne);
+    }
+
+    // ===============================
+    // Yayılma (komut iş parçacığında)
+    // ===============================
+
+    // Bekleyen çöküşleri ve yol açtıkları yeni çöküşleri bitene kadar yayar;
+    // bekleyen yoksa null. Aynı anda tek yayılma çalışır.
+    public synchronized Rapor yay() {
+        KuantumNesnesi ilk = cokenler.peek();
+        if (ilk == null) return null;
+
+        long baslangic = System.nanoTime();
+        List<KuantumNesnesi> dalga = new ArrayList<>();
+        Hasarlar hasarlar = new Hasarlar();
+        int coken = 0;
+        long hasar = 0;
+        int dalgaSayisi = 0;
+        while (true) {
+            KuantumNesnesi n;
+            while ((n = cokenler.poll()) != null) dalga.add(n);
+            if (dalga.isEmpty()) break;
+            coken += dalga.size();
+            for (KuantumNesnesi c : dalga) komsulara(c, hasarlar);
+            hasar += hasarlar.hedefler.size();
+            // Bu dalganın hasarıyla çöken komşular kuyruğa, sonraki dalgaya girer
+            double[] miktar = hasarlar.miktar;
+            envanter.sahiplerinde(hasarlar.hedefler, (komsu, i) -> komsu.hasarAl(miktar[i]));
+            hasarlar.hedefler.clear();
+            dalga.clear();
+            dalgaSayisi++;
+        }
+
+        Rapor rapor = new Rapor(ilk.getAnahtar(), coken, hasar, dalgaSayisi, System.nanoTime() - baslangic);
+        zincirSayisi.increment();
+        toplamCoken.add(coken);
+        Rapor eb = enBuyuk;
+        if (eb == null || coken > eb.coken) enBuyuk = rapor;
+        return rapor;
+    }
+
+    // Yarıçaptaki çökmemiş komşuların hasarını toplar
+    private void komsulara(KuantumNesnesi n, Hasarlar hasarlar) {
+        long anahtar = n.getAnahtar();
+        long x = anahtar % RAF_GENISLIGI;
+        long y = anahtar / RAF_GENISLIGI;
+        int yaricap = n.getTehlikeSeviyesi() * YARICAP_CARPANI;
+        double merkez = n.getTehlikeSeviyesi() * HASAR_CARPANI / AGIRLIK_TOPLAMI[yaricap];
+
+        long sayfaNo = -1;
+        AtomicReferenceArray<KuantumNesnesi> sayfa = null;
+        for (int dy = -yaricap; dy <= yaricap; dy++) {
+            long ky = y + dy;
+            if (ky < 0) continue;
+            int genislik = (int) Math.sqrt((double) yaricap * yaricap - (double) dy * dy);
+            for (int dx = -genislik; dx <= genislik; dx++) {
+                long kx = x + dx;
+                if (kx < 0 || kx >= RAF_GENISLIGI || (dx == 0 && dy == 0)) continue;
+                long k = ky * RAF_GENISLIGI + kx;
+                if (k >>> SAYFA_BITI != sayfaNo) {
+                    sayfaNo = k >>> SAYFA_BITI;
+                    sayfa = izgara.get(sayfaNo);
+                }
+                if (sayfa == null) continue;
+                KuantumNesnesi komsu = sayfa.get((int) k & SAYFA_MASKESI);
+                if (komsu == null || komsu.isCoktu()) continue;
+                double mesafe = Math.sqrt((double) dx * dx + (double) dy * dy);
+                hasarlar.ekle(komsu, merkez * (1 - mesafe / (yaricap + 1)));
+            }
+        }
+    }
+
+    // ===============================
+    // Durum
+    // ===============================
+    public long zincirSayisi() {
+        return zincirSayisi.sum();
+    }
+
+    public long toplamCoken() {
+        return toplamCoken.sum();
+    }
+
+    // Çöken sayısına göre en büyük zincir; henüz yoksa null
+    public Rapor enBuyuk() {
+        return enBuyuk;
+    }
+}